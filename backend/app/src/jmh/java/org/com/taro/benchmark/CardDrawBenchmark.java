@@ -0,0 +1,104 @@
+package org.com.taro.benchmark;
+
+import org.com.taro.entity.TaroCardEntity;
+import org.com.taro.enums.CardSuit;
+import org.com.taro.repository.TaroCardRepository;
+import org.com.taro.service.TaroCardCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 생성 시 카드 3장 뽑기 비교
+ *
+ * legacyOrderByRand: ORDER BY RAND()로 78장을 섞어 읽어온 뒤(엔티티 78개 생성 + 전체 셔플)
+ *                    new Random()으로 중복 제거 추첨하던 기존 경로. DB 왕복 비용은 포함하지 않음.
+ * inMemoryDeck:      TaroCardCatalog의 부분 Fisher-Yates 셔플.
+ *
+ * 실행: ./gradlew jmh  (gc 프로파일러로 연산당 할당량도 함께 출력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class CardDrawBenchmark {
+
+    private static final int DECK_SIZE = 78;
+    private static final int DRAW_COUNT = 3;
+
+    private List<TaroCardEntity> rows;
+    private TaroCardCatalog catalog;
+
+    @Setup
+    public void setup() {
+        rows = new ArrayList<>(DECK_SIZE);
+        for (int i = 1; i <= DECK_SIZE; i++) {
+            TaroCardEntity entity = newCard(i);
+            rows.add(entity);
+        }
+        catalog = new TaroCardCatalog(stubRepository(rows));
+        catalog.refresh();
+    }
+
+    @Benchmark
+    public List<Integer> legacyOrderByRand() {
+        // ORDER BY RAND() 결과 materialize 흉내: 행마다 엔티티 생성 후 전체 셔플
+        List<TaroCardEntity> allCards = new ArrayList<>(DECK_SIZE);
+        for (TaroCardEntity row : rows) {
+            allCards.add(newCard(row.getId()));
+        }
+        Collections.shuffle(allCards);
+
+        Random random = new Random();
+        Set<Integer> usedCardIds = new HashSet<>();
+        List<Integer> selected = new ArrayList<>(DRAW_COUNT);
+        for (int position = 1; position <= DRAW_COUNT; position++) {
+            TaroCardEntity selectedCard;
+            do {
+                selectedCard = allCards.get(random.nextInt(allCards.size()));
+            } while (usedCardIds.contains(selectedCard.getId()));
+            usedCardIds.add(selectedCard.getId());
+            random.nextBoolean();
+            selected.add(selectedCard.getId());
+        }
+        return selected;
+    }
+
+    @Benchmark
+    public List<TaroCardCatalog.Card> inMemoryDeck() {
+        return catalog.draw(DRAW_COUNT);
+    }
+
+    private static TaroCardEntity newCard(int id) {
+        TaroCardEntity entity = new TaroCardEntity(id, "카드" + id, "Card " + id, CardSuit.MAJOR,
+                String.valueOf(id), null, "card" + id + ".webm", "upright meaning", "reversed meaning");
+        entity.setId(id);
+        return entity;
+    }
+
+    private static TaroCardRepository stubRepository(List<TaroCardEntity> rows) {
+        return (TaroCardRepository) Proxy.newProxyInstance(
+                TaroCardRepository.class.getClassLoader(),
+                new Class<?>[]{TaroCardRepository.class},
+                (proxy, method, args) -> {
+                    if ("findAll".equals(method.getName()) && (args == null || args.length == 0)) {
+                        return rows;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,71 @@
+package org.com.taro.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.com.taro.service.SSEManager;
+import org.com.taro.service.SseFrame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 이벤트 하나를 세션의 emitter N개에 보내는 인코딩 비용 비교 (소켓 쓰기 제외)
+ *
+ * legacyPerEvent: 이벤트마다 new ObjectMapper()로 문자열 직렬화 후, emitter마다 SseEventBuilder를 빌드하고
+ *                 각 조각을 UTF-8로 인코딩 (StringHttpMessageConverter가 하던 일)
+ * sharedFrame:    공유 ObjectWriter로 바이트 직렬화 한 번, SseFrame 한 번 생성 후 같은 버퍼 재사용
+ *
+ * 실행: ./gradlew jmh  (gc 프로파일러가 켜져 있으므로 gc.alloc.rate.norm = 연산당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SseEncodingBenchmark {
+
+    @Param({"1", "4"})
+    public int emittersPerSession;
+
+    private ObjectWriter sharedWriter;
+    private SSEManager.CardInterpretedEvent event;
+
+    @Setup
+    public void setup() {
+        sharedWriter = new ObjectMapper().writer();
+        event = new SSEManager.CardInterpretedEvent(2,
+                "지금 당신 앞에 놓인 카드는 변화의 흐름을 이야기해요. 조금 흔들리더라도 방향은 분명히 앞으로 향하고 있어요.");
+    }
+
+    @Benchmark
+    public void legacyPerEvent(Blackhole blackhole) throws Exception {
+        String json = new ObjectMapper().writeValueAsString(event);
+        for (int i = 0; i < emittersPerSession; i++) {
+            Set<ResponseBodyEmitter.DataWithMediaType> parts = SseEmitter.event()
+                    .name("card_interpreted")
+                    .data(json)
+                    .build();
+            for (ResponseBodyEmitter.DataWithMediaType part : parts) {
+                blackhole.consume(part.getData().toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Benchmark
+    public void sharedFrame(Blackhole blackhole) throws Exception {
+        SseFrame frame = SseFrame.of("card_interpreted", sharedWriter.writeValueAsBytes(event));
+        for (int i = 0; i < emittersPerSession; i++) {
+            blackhole.consume(frame);
+        }
+    }
+}
@@ -5,10 +5,15 @@ package org.com.taro;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// Redis는 SSE 이벤트 버스 전용 - 연결은 RedisEventBusConfig가 sse.event-bus=redis 일 때만 생성
+@SpringBootApplication(exclude = {RedisAutoConfiguration.class, RedisRepositoriesAutoConfiguration.class})
 @EnableJpaRepositories(basePackages = "org.com.taro.repository")
+@EnableScheduling
 public class App {
     public String getGreeting() {
         return "Hello World!!!";
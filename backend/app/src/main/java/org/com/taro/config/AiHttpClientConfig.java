@@ -0,0 +1,84 @@
+package org.com.taro.config;
+
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Shared HTTP client for upstream AI calls (GMS chat / speech, Gemini)
+ * 모든 WebClient가 같은 커넥션 풀을 사용 - keep-alive로 연결을 재사용해서 리딩마다 TLS 핸드셰이크를 반복하지 않음
+ * (새 연결이 필요할 때도 같은 SSL 설정을 공유하므로 TLS 세션 재개)
+ *
+ * - ai.http.protocol=h2: ALPN으로 HTTP/2 협상 (지원하지 않는 서버는 HTTP/1.1로 연결)
+ * - 연결/응답 타임아웃은 Netty 레벨에서 적용 (Mono.timeout은 호출별 전체 시간 상한으로 그대로 유지)
+ * - 풀 지표: /actuator/metrics의 reactor.netty.connection.provider.*, reactor.netty.http.client.*
+ */
+@Configuration
+public class AiHttpClientConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiHttpClientConfig.class);
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiConnectionProvider(
+            @Value("${ai.http.max-connections:100}") int maxConnections,
+            @Value("${ai.http.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${ai.http.pending-acquire-timeout-ms:10000}") long pendingAcquireTimeoutMs,
+            @Value("${ai.http.max-idle-time-seconds:30}") long maxIdleTimeSeconds,
+            @Value("${ai.http.max-life-time-seconds:300}") long maxLifeTimeSeconds) {
+        return ConnectionProvider.builder("ai-upstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                // 서버/로드밸런서가 먼저 끊은 유휴 연결을 쓰지 않도록 idle 시간을 짧게 두고 백그라운드에서 정리
+                .maxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+                .maxLifeTime(Duration.ofSeconds(maxLifeTimeSeconds))
+                .evictInBackground(Duration.ofSeconds(maxIdleTimeSeconds))
+                .lifo() // 최근에 쓴 연결부터 재사용 - 남는 연결은 idle로 정리됨
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public HttpClient aiHttpClient(ConnectionProvider aiConnectionProvider,
+                                   @Value("${ai.http.protocol:http11}") String protocol,
+                                   @Value("${ai.http.connect-timeout-ms:5000}") int connectTimeoutMs,
+                                   @Value("${ai.http.response-timeout-seconds:120}") long responseTimeoutSeconds) {
+        boolean http2 = "h2".equalsIgnoreCase(protocol.trim());
+        logger.info("AI upstream HTTP client: protocol={}, connectTimeout={}ms, responseTimeout={}s",
+                http2 ? "h2 (fallback http/1.1)" : "http/1.1", connectTimeoutMs, responseTimeoutSeconds);
+
+        return HttpClient.create(aiConnectionProvider)
+                .protocol(http2
+                        ? new HttpProtocol[] {HttpProtocol.H2, HttpProtocol.HTTP11}
+                        : new HttpProtocol[] {HttpProtocol.HTTP11})
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                // 응답 읽기 사이 최대 간격 (스트리밍 응답은 조각 사이 간격)
+                .responseTimeout(Duration.ofSeconds(responseTimeoutSeconds))
+                // uri 태그에서 쿼리(Gemini API 키 등) 제거
+                .metrics(true, AiHttpClientConfig::withoutQuery);
+    }
+
+    /**
+     * 업스트림 WebClient 공용 커넥터 - Spring Boot의 WebClient.Builder도 이 커넥터를 사용
+     */
+    @Bean
+    public ClientHttpConnector aiClientHttpConnector(HttpClient aiHttpClient) {
+        return new ReactorClientHttpConnector(aiHttpClient);
+    }
+
+    private static String withoutQuery(String uri) {
+        int query = uri.indexOf('?');
+        return query < 0 ? uri : uri.substring(0, query);
+    }
+}
@@ -1,7 +1,9 @@
 package org.com.taro.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import java.util.concurrent.Executor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -9,28 +11,74 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    // true면 @Async 리딩 / TTS 작업을 가상 스레드에서 실행 (Tomcat 요청 처리는 Spring Boot가 같은 값으로 전환)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Bean(name="taroTaskExecutor")
     public Executor taroTaskExecutor() {
+        if (virtualThreadsEnabled) {
+            // 리딩마다 가상 스레드 하나 - 동시 LLM 호출 수는 UpstreamCallLimiter가 제한
+            return virtualThreadExecutor("TaroAI-");
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // AI API 호출에 최적화된 스레드 풀 설정
-        executor.setCorePoolSize(2);        // 기본 활성 스레드 수 (동시 AI 요청 2개)
-        executor.setMaxPoolSize(5);         // 최대 스레드 수 (피크 시 5개까지)
-        executor.setQueueCapacity(100);     // 대기 큐 크기 (100개 요청까지 대기)
+        // 동시 리딩 수와 대기는 ReadingDispatcher가 최대 스레드 수 기준으로 관리하므로 풀 안의 큐는 거의 쓰이지 않음
+        // (코어 = 최대 스레드여야 큐에 쌓이지 않고 바로 스레드가 배정됨)
+        executor.setCorePoolSize(5);        // 동시 AI 요청 5개
+        executor.setMaxPoolSize(5);         // 최대 스레드 수
+        executor.setQueueCapacity(100);     // 리딩이 끝나는 순간 다음 리딩이 넘어올 때만 잠깐 사용
         executor.setKeepAliveSeconds(60);   // 유휴 스레드 유지 시간 (60초)
-        
+        executor.setAllowCoreThreadTimeOut(true);
+
         // 스레드 이름 설정 (로그에서 식별하기 쉽도록)
         executor.setThreadNamePrefix("TaroAI-");
-        
+
         // 애플리케이션 종료 시 스레드 풀 정리
         executor.setWaitForTasksToCompleteOnShutdown(true);  // 진행 중인 작업 완료 대기
         executor.setAwaitTerminationSeconds(20);             // 최대 20초 대기
-        
-        // 거부 정책: 큐가 가득 찰 때 호출자 스레드에서 직접 실행
+
+        // 거부 정책: 예외 (호출자 스레드에서 실행하면 Tomcat 요청 스레드가 리딩 전체를 처리하게 됨)
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.AbortPolicy());
+
+        executor.initialize();
+
+        return executor;
+    }
+
+    @Bean(name="ttsTaskExecutor")
+    public Executor ttsTaskExecutor() {
+        if (virtualThreadsEnabled) {
+            return virtualThreadExecutor("TaroTTS-");
+        }
+
+        // 기존 공용 ForkJoinPool 대신 TTS 전용 풀 사용
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("TaroTTS-");
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
-        
         executor.initialize();
 
         return executor;
     }
+
+    @Bean(name="sseWriterExecutor")
+    public Executor sseWriterExecutor() {
+        // SSE 소켓 쓰기 전용 - spring.threads.virtual.enabled와 관계없이 항상 가상 스레드
+        // 연결별 큐를 비우는 작업마다 스레드 하나라서, 읽지 않는 클라이언트의 블로킹 쓰기는 그 연결의 스레드만 붙잡음
+        // (고정 크기 풀이면 멈춘 클라이언트 수만큼 노드 전체의 SSE 전달이 멈춤) - 멈춘 쓰기는 sse.write-timeout-ms 후 SSEManager가 끊음
+        return virtualThreadExecutor("SseWriter-");
+    }
+
+    private Executor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(20_000); // 종료 시 진행 중인 작업 최대 20초 대기
+        return executor;
+    }
 }
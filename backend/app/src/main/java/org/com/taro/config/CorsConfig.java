@@ -7,18 +7,21 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class CorsConfig implements WebMvcConfigurer {
 
+    // 리액티브 SSE 서버(ReactiveSseServerConfig)도 같은 목록 사용
+    public static final String[] ALLOWED_ORIGINS = {
+            "http://localhost:5173",
+            "http://127.0.0.1:5173",
+            "https://j13a601.p.ssafy.io",
+            "https://tarotmilk.com",
+            "https://www.tarotmilk.com",
+            "http://tarotmilk.com",
+            "http://www.tarotmilk.com"
+    };
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
-                .allowedOrigins(
-                        "http://localhost:5173",
-                        "http://127.0.0.1:5173",
-                        "https://j13a601.p.ssafy.io",
-                        "https://tarotmilk.com",
-                        "https://www.tarotmilk.com",
-                        "http://tarotmilk.com",
-                        "http://www.tarotmilk.com"
-                )
+                .allowedOrigins(ALLOWED_ORIGINS)
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
                 .allowCredentials(true)
@@ -3,6 +3,7 @@ package org.com.taro.config;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
@@ -12,8 +13,9 @@ public class GeminiWebClientConfig {
     private GeminiConfig geminiConfig;
 
     @Bean(name = "geminiWebClient")
-    public WebClient geminiWebClient() {
+    public WebClient geminiWebClient(ClientHttpConnector aiClientHttpConnector) {
         return WebClient.builder()
+                .clientConnector(aiClientHttpConnector) // 공용 커넥션 풀 (AiHttpClientConfig)
                 .baseUrl(geminiConfig.getBaseUrl())
                 .defaultHeader("Content-Type", "application/json")
                 .codecs(configurer -> configurer
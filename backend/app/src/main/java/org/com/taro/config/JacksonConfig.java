@@ -0,0 +1,28 @@
+package org.com.taro.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring이 만든 ObjectMapper에서 파생한 공유 reader/writer
+ * (ObjectMapper를 호출마다 새로 만들지 않도록 AI 클라이언트와 SSE에서 주입받아 사용)
+ */
+@Configuration
+public class JacksonConfig {
+
+    // 외부 API 응답 JSON 트리 파싱용
+    @Bean
+    public ObjectReader jsonTreeReader(ObjectMapper objectMapper) {
+        return objectMapper.readerFor(JsonNode.class);
+    }
+
+    // SSE 이벤트 / 결과 스냅샷 직렬화용
+    @Bean
+    public ObjectWriter jsonWriter(ObjectMapper objectMapper) {
+        return objectMapper.writer();
+    }
+}
@@ -0,0 +1,35 @@
+package org.com.taro.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JdbcBatchConfig {
+
+    // Hibernate JDBC 배치 설정 (properties에 값이 있으면 그 값을 우선 사용)
+    @Bean
+    public HibernatePropertiesCustomizer hibernateBatchCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent("hibernate.jdbc.batch_size", 20);
+            hibernateProperties.putIfAbsent("hibernate.order_inserts", true);
+            hibernateProperties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+
+    // MySQL 드라이버가 배치 insert를 다건 VALUES 한 문장으로 재작성하도록 설정
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -13,6 +13,7 @@ public class OpenAIConfig {
     private int maxTokens = 1500;
     private double temperature = 0.7;
     private int timeoutSeconds = 30;
+    private boolean streaming = true; // 카드 해석을 stream: true로 받아 card_delta 이벤트로 전달
 
     // 기본 생성자
     public OpenAIConfig() {}
@@ -66,6 +67,14 @@ public class OpenAIConfig {
         this.timeoutSeconds = timeoutSeconds; 
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     // 디버깅을 위한 toString (API 키는 마스킹)
     @Override
     public String toString() {
@@ -76,6 +85,7 @@ public class OpenAIConfig {
                 ", maxTokens=" + maxTokens +
                 ", temperature=" + temperature +
                 ", timeoutSeconds=" + timeoutSeconds +
+                ", streaming=" + streaming +
                 '}';
     }
 }
\ No newline at end of file
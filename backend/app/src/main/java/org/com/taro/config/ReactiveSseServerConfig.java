@@ -0,0 +1,78 @@
+package org.com.taro.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.com.taro.controller.ReactiveSessionEventsHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.List;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+/**
+ * Reactive SSE server (sse.reactive.enabled=true)
+ * 앱 본체는 서블릿(Tomcat)이므로 /sessions/{sessionId}/events만 별도 포트의 Reactor Netty 서버로 제공
+ * - 구독자마다 Tomcat 비동기 슬롯을 잡지 않아 유휴 연결은 메모리만 사용
+ * - 이벤트는 SSEManager에서 받으므로 이벤트 이름 / ID / 재전송 / snapshot 동작은 서블릿 엔드포인트와 동일
+ *
+ * 로드밸런서에서 /sessions/{id}/events 경로만 sse.reactive.port로 보내면 됨
+ */
+@Configuration
+@ConditionalOnProperty(name = "sse.reactive.enabled", havingValue = "true")
+public class ReactiveSseServerConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveSseServerConfig.class);
+
+    @Bean(destroyMethod = "disposeNow")
+    public DisposableServer reactiveSseServer(ReactiveSessionEventsHandler handler,
+                                              ObjectMapper objectMapper,
+                                              @Value("${sse.reactive.port:8091}") int port) {
+        RouterFunction<ServerResponse> routes = RouterFunctions.route(GET("/sessions/{sessionId}/events"), handler::subscribe);
+
+        // 에러 응답 JSON도 Spring의 ObjectMapper 설정을 그대로 사용
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper)))
+                .build();
+
+        HttpHandler httpHandler = WebHttpHandlerBuilder.webHandler(RouterFunctions.toWebHandler(routes, strategies))
+                .filter(new CorsWebFilter(corsConfigurationSource()))
+                .build();
+
+        DisposableServer server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        logger.info("Reactive SSE server started on port {}", server.port());
+        return server;
+    }
+
+    private static UrlBasedCorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.setAllowedOrigins(List.of(CorsConfig.ALLOWED_ORIGINS));
+        cors.setAllowedMethods(List.of("GET", "OPTIONS"));
+        cors.addAllowedHeader("*");
+        cors.addExposedHeader("*");
+        cors.setAllowCredentials(true);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", cors);
+        return source;
+    }
+}
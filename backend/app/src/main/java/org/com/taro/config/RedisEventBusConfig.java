@@ -0,0 +1,79 @@
+package org.com.taro.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.com.taro.service.RedisSseEventBus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Redis 기반 SSE 이벤트 버스 (sse.event-bus=redis 일 때만 활성화)
+ *
+ * Redis 자동 설정은 App에서 제외했으므로 단일 노드(local) 모드에서는 Redis 연결/헬스 체크가 생기지 않음.
+ * 접속 정보는 표준 spring.data.redis.* 프로퍼티 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "sse.event-bus", havingValue = "redis")
+@EnableConfigurationProperties(RedisProperties.class)
+public class RedisEventBusConfig {
+
+    @Bean
+    public LettuceConnectionFactory redisConnectionFactory(RedisProperties properties) {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(properties.getHost(), properties.getPort());
+        config.setDatabase(properties.getDatabase());
+        if (properties.getUsername() != null) {
+            config.setUsername(properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            config.setPassword(RedisPassword.of(properties.getPassword()));
+        }
+        return new LettuceConnectionFactory(config);
+    }
+
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(LettuceConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
+    }
+
+    /**
+     * 버스 메시지 처리 스레드 - 하나로 고정해 세션별 이벤트 순서(card_delta 등)를 유지
+     * 빈으로 등록해 종료 시 컨텍스트가 정리 (리스너 컨테이너가 먼저 멈춘 뒤 남은 메시지를 처리하고 종료)
+     */
+    @Bean(name = "sseBusDispatcher")
+    public ThreadPoolTaskExecutor sseBusDispatcher() {
+        ThreadPoolTaskExecutor dispatcher = new ThreadPoolTaskExecutor();
+        dispatcher.setCorePoolSize(1);
+        dispatcher.setMaxPoolSize(1);
+        dispatcher.setThreadNamePrefix("SseBus-");
+        dispatcher.setWaitForTasksToCompleteOnShutdown(true);
+        dispatcher.setAwaitTerminationSeconds(5);
+        return dispatcher;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer sseEventListenerContainer(LettuceConnectionFactory redisConnectionFactory,
+                                                                   @Qualifier("sseBusDispatcher") ThreadPoolTaskExecutor sseBusDispatcher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(sseBusDispatcher);
+        return container;
+    }
+
+    @Bean
+    public RedisSseEventBus sseEventBus(StringRedisTemplate stringRedisTemplate,
+                                        RedisMessageListenerContainer sseEventListenerContainer,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${sse.redis-channel:taro:sse-events}") String channel) {
+        return new RedisSseEventBus(stringRedisTemplate, sseEventListenerContainer, meterRegistry, channel);
+    }
+}
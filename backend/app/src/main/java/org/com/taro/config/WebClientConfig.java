@@ -3,10 +3,9 @@ package org.com.taro.config;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import java.time.Duration;
-
 @Configuration
 public class WebClientConfig {
 
@@ -14,8 +13,9 @@ public class WebClientConfig {
     private OpenAIConfig openAIConfig;
 
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(ClientHttpConnector aiClientHttpConnector) {
         return WebClient.builder()
+                .clientConnector(aiClientHttpConnector) // 공용 커넥션 풀 (AiHttpClientConfig)
                 .baseUrl(openAIConfig.getBaseUrl())
                 .defaultHeader("Authorization", "Bearer " + openAIConfig.getApiKey())
                 .defaultHeader("Content-Type", "application/json")
@@ -0,0 +1,77 @@
+package org.com.taro.controller;
+
+import org.com.taro.dto.ErrorResponse;
+import org.com.taro.exception.InvalidRequestException;
+import org.com.taro.exception.SessionNotFoundException;
+import org.com.taro.service.SSEManager;
+import org.com.taro.service.TaroService;
+import org.com.taro.validator.TaroRequestValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * GET /sessions/{sessionId}/events on the reactive SSE server (sse.reactive.enabled=true)
+ * TaroController.subscribeToSession과 같은 검증 / 같은 이벤트 이름, 응답은 SseEmitter 대신 Flux
+ */
+@Component
+@ConditionalOnProperty(name = "sse.reactive.enabled", havingValue = "true")
+public class ReactiveSessionEventsHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveSessionEventsHandler.class);
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final SSEManager sseManager;
+    private final TaroService taroService;
+    private final TaroRequestValidator requestValidator;
+
+    public ReactiveSessionEventsHandler(SSEManager sseManager, TaroService taroService,
+                                        TaroRequestValidator requestValidator) {
+        this.sseManager = sseManager;
+        this.taroService = taroService;
+        this.requestValidator = requestValidator;
+    }
+
+    public Mono<ServerResponse> subscribe(ServerRequest request) {
+        String sessionId = request.pathVariable("sessionId");
+        String lastEventId = request.headers().firstHeader("Last-Event-ID");
+
+        // 세션 존재 확인은 JPA 조회라 이벤트 루프 밖에서 실행
+        return Mono.fromCallable(() -> {
+                    requestValidator.validateSessionId(sessionId);
+                    if (!taroService.sessionExists(sessionId)) {
+                        throw new SessionNotFoundException(sessionId);
+                    }
+                    return sessionId;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(id -> ServerResponse.ok()
+                        .contentType(MediaType.TEXT_EVENT_STREAM)
+                        .body(sseManager.subscribeReactive(id, lastEventId), SSE_TYPE))
+                .onErrorResume(InvalidRequestException.class, e -> {
+                    logger.warn("Invalid request: {} for reactive SSE", e.getMessage());
+                    return error(HttpStatus.BAD_REQUEST, "잘못된 요청입니다", e.getMessage());
+                })
+                .onErrorResume(SessionNotFoundException.class, e -> {
+                    logger.warn("Session not found: {} for reactive SSE", e.getMessage());
+                    return error(HttpStatus.NOT_FOUND, "세션을 찾을 수 없습니다", e.getMessage());
+                });
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String message, String detail) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ErrorResponse(status.value(), message, detail));
+    }
+}
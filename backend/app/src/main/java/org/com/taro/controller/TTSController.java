@@ -7,9 +7,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.com.taro.config.OpenAIConfig;
 import org.com.taro.dto.TTSRequest;
+import org.com.taro.exception.UpstreamUnavailableException;
+import org.com.taro.service.ai.UpstreamGuards;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -18,6 +22,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @RestController
 @RequestMapping("/tts")
@@ -28,10 +33,17 @@ public class TTSController {
 
     private final WebClient webClient;
     private final OpenAIConfig openAIConfig;
+    private final Executor ttsTaskExecutor;
+    private final UpstreamGuards upstreamGuards;
 
-    public TTSController(WebClient.Builder webClientBuilder, OpenAIConfig openAIConfig) {
+    public TTSController(WebClient.Builder webClientBuilder, ClientHttpConnector aiClientHttpConnector,
+                         OpenAIConfig openAIConfig, @Qualifier("ttsTaskExecutor") Executor ttsTaskExecutor,
+                         UpstreamGuards upstreamGuards) {
         this.openAIConfig = openAIConfig;
+        this.ttsTaskExecutor = ttsTaskExecutor;
+        this.upstreamGuards = upstreamGuards;
         this.webClient = webClientBuilder
+            .clientConnector(aiClientHttpConnector) // 카드 해석과 같은 커넥션 풀 사용
             .baseUrl(openAIConfig.getBaseUrl())
             .build();
     }
@@ -87,6 +99,8 @@ public class TTSController {
                     .bodyValue(gmsRequest)
                     .retrieve()
                     .bodyToFlux(String.class)
+                    // 회로가 열려 있거나 동시 호출 한도를 넘으면 요청을 보내지 않고 바로 실패
+                    .transform(upstreamGuards.speech().<String>protectStream())
                     .doOnNext(chunk -> {
                         try {
                             logger.info("📦 GMS API 응답 청크 수신: {}", chunk.length() > 100 ?
@@ -109,10 +123,14 @@ public class TTSController {
                     .doOnError(error -> {
                         logger.error("💥 GMS API 호출 중 오류 발생: {}", error.getMessage(), error);
                         try {
-                            String errorMessage = String.format(
-                                "{\"type\":\"error\",\"error\":\"%s\"}",
-                                error.getMessage().replace("\"", "\\\"")
-                            );
+                            // 회로 차단으로 호출하지 않은 경우는 type을 구분해서 클라이언트가 재시도 시점을 알 수 있게 함
+                            String errorMessage = error instanceof UpstreamUnavailableException unavailable
+                                ? String.format("{\"type\":\"upstream_unavailable\",\"retryAfterSeconds\":%d}",
+                                    unavailable.getRetryAfterSeconds())
+                                : String.format(
+                                    "{\"type\":\"error\",\"error\":\"%s\"}",
+                                    error.getMessage().replace("\"", "\\\"")
+                                );
                             emitter.send(SseEmitter.event().data(errorMessage));
                             logger.info("📤 에러 메시지 클라이언트로 전송: {}", errorMessage);
                         } catch (IOException e) {
@@ -136,7 +154,7 @@ public class TTSController {
                 }
                 emitter.completeWithError(e);
             }
-        });
+        }, ttsTaskExecutor);
 
         // SSE 연결 해제 시 정리 작업
         emitter.onCompletion(() -> logger.info("✅ TTS SSE 연결 완료"));
@@ -9,13 +9,18 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.com.taro.dto.*;
 import org.com.taro.service.TaroService;
-import org.com.taro.service.ai.TaroAiService;
+import org.com.taro.service.ai.ReadingDispatcher;
 import org.com.taro.service.SSEManager;
+import org.com.taro.service.ResultSnapshotService;
 import org.com.taro.exception.*;
 import org.com.taro.enums.ProcessingStatus;
 import org.com.taro.validator.TaroRequestValidator;
 import org.com.taro.exception.GlobalExceptionHandler;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -34,7 +39,7 @@ public class TaroController {
 
 
     @Autowired
-    private TaroAiService taroAiService;
+    private ReadingDispatcher readingDispatcher;
 
     @Autowired
     private SSEManager sseManager;
@@ -42,6 +47,9 @@ public class TaroController {
     @Autowired
     private TaroRequestValidator requestValidator;
 
+    @Autowired
+    private ResultSnapshotService resultSnapshotService;
+
 
     @PostMapping("/sessions")
     @Operation(summary = "세션 생성", description = "새로운 타로 세션을 생성합니다")
@@ -93,6 +101,8 @@ public class TaroController {
             @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "리딩 대기열이 가득 참 (Retry-After 헤더 참고)",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     public ResponseEntity<?> submitChoices(
@@ -105,13 +115,23 @@ public class TaroController {
         // 요청 검증 (필수 필드 + 비즈니스 로직)
         requestValidator.validateSubmitRequest(request);
 
+        // 대기열 자리를 DB 작업 전에 예약 - 가득 찼으면 바로 거절 (503 + Retry-After)
+        // 예약한 자리는 제출 기록 후 거절되지 않으므로 SUBMITTED 상태로 작업 없이 남는 세션이 생기지 않음
+        ReadingDispatcher.Reservation reservation = readingDispatcher.reserve();
+
         // 기본 TaroReading 정보 업데이트 (동기)
-        taroService.generateTaroResult(
-                sessionId, request.getCategoryCode(), request.getTopicCode(),
-                request.getQuestionText(), request.getReaderType());
+        try {
+            taroService.generateTaroResult(
+                    sessionId, request.getCategoryCode(), request.getTopicCode(),
+                    request.getQuestionText(), request.getReaderType());
+        } catch (RuntimeException e) {
+            reservation.cancel();
+            throw e;
+        }
 
-        // 비동기 AI 처리 시작
-        taroAiService.processSequentially(sessionId, request);
+        // 비동기 AI 처리 시작 (ai.pipeline.mode에 따라 @Async 또는 논블로킹 파이프라인)
+        // 바로 시작하지 못하면 대기열에 들어가고 SSE queued 이벤트로 순번 안내
+        reservation.dispatch(sessionId, request);
 
         return ResponseEntity.ok(new SubmitResultResponse(true, "타로 해석이 시작되었습니다. SSE를 통해 진행상황을 확인하세요.", sessionId));
     }
@@ -148,7 +168,9 @@ public class TaroController {
     })
     public SseEmitter subscribeToSession(
             @Parameter(description = "세션 ID", required = true)
-            @PathVariable String sessionId) {
+            @PathVariable String sessionId,
+            @Parameter(description = "재연결 시 마지막으로 받은 이벤트 ID (브라우저가 자동으로 전송)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         // 세션 ID 검증
         requestValidator.validateSessionId(sessionId);
 
@@ -157,8 +179,8 @@ public class TaroController {
             throw new SessionNotFoundException(sessionId);
         }
 
-        // SSE 연결 생성
-        return sseManager.addEmitter(sessionId);
+        // SSE 연결 생성 (재연결이면 놓친 이벤트부터 재전송)
+        return sseManager.addEmitter(sessionId, lastEventId);
     }
 
     @GetMapping("/sessions/{sessionId}/result")
@@ -166,6 +188,7 @@ public class TaroController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "결과 조회 성공",
                     content = @Content(schema = @Schema(implementation = TaroResultResponse.class))),
+            @ApiResponse(responseCode = "304", description = "완료된 결과가 변경되지 않음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "세션을 찾을 수 없음",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "425", description = "아직 처리 중입니다",
@@ -175,10 +198,17 @@ public class TaroController {
     })
     public ResponseEntity<?> getSessionResult(
             @Parameter(description = "세션 ID", required = true)
-            @PathVariable String sessionId) {
+            @PathVariable String sessionId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         // 세션 ID 검증
         requestValidator.validateSessionId(sessionId);
 
+        // 완료된 세션은 저장된 스냅샷 바이트를 그대로 응답 (처리 중으로 알려진 세션은 스냅샷 DB 조회 없이 아래 경로로)
+        var snapshot = resultSnapshotService.findCompletedSnapshot(sessionId);
+        if (snapshot.isPresent()) {
+            return snapshotResponse(snapshot.get(), ifNoneMatch);
+        }
+
         TaroResultResponse result = taroService.getSessionResult(sessionId);
 
         // 처리 상태에 따른 응답
@@ -187,8 +217,29 @@ public class TaroController {
             return GlobalExceptionHandler.createTooEarlyResponse();
         }
 
-        // 처리 중이거나 완료된 경우 모두 중간 결과 포함하여 200 반환
+        // 완료됐지만 스냅샷이 없는 경우 (완료 시점 저장 실패 / 완료 직후 이 노드에 이벤트가 아직 오지 않은 경우) - 여기서 고정
+        if (ProcessingStatus.COMPLETED.getCode().equals(result.getStatus())) {
+            var frozen = resultSnapshotService.findSnapshot(sessionId)
+                    .orElseGet(() -> resultSnapshotService.freeze(result));
+            return snapshotResponse(frozen, ifNoneMatch);
+        }
+
+        // 처리 중인 경우 중간 결과 포함하여 200 반환
         return ResponseEntity.ok(result);
     }
 
+    private ResponseEntity<?> snapshotResponse(ResultSnapshotService.Snapshot snapshot, String ifNoneMatch) {
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getBody());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+package org.com.taro.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제출된 리딩의 AI 처리 작업 (세션당 하나)
+ * 처리 중인 노드가 lease를 주기적으로 연장하고, lease가 끝난 작업은 다른 노드(또는 재시작한 노드)가 이어받음
+ *
+ * CREATE TABLE ai_reading_jobs (
+ *   session_id       VARCHAR(50)  NOT NULL PRIMARY KEY,
+ *   status           VARCHAR(20)  NOT NULL,
+ *   lease_owner      VARCHAR(100),
+ *   lease_expires_at DATETIME(6),
+ *   attempts         INT          NOT NULL,
+ *   created_at       DATETIME(6)  NOT NULL,
+ *   updated_at       DATETIME(6)  NOT NULL,
+ *   INDEX idx_ai_reading_jobs_lease (status, lease_expires_at)
+ * );
+ */
+@Entity
+@Table(name = "ai_reading_jobs")
+public class AiReadingJob implements Persistable<String> {
+
+    public enum JobStatus {
+        PENDING,    // 대기열에서 대기 중
+        RUNNING,    // 처리 중
+        COMPLETED,  // 완료
+        FAILED      // 실패 (재시도 한도 초과 포함)
+    }
+
+    @Id
+    @Column(name = "session_id", length = 50, nullable = false)
+    private String sessionId;
+
+    @Column(name = "status", length = 20, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private JobStatus status;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 등록은 항상 insert - save() 시 merge용 select를 생략하고, 이미 있으면 PK 충돌로 알 수 있음
+    @Transient
+    private boolean isNew = true;
+
+    public AiReadingJob() {}
+
+    public AiReadingJob(String sessionId, String leaseOwner, LocalDateTime leaseExpiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        this.sessionId = sessionId;
+        this.status = JobStatus.PENDING;
+        this.leaseOwner = leaseOwner;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.attempts = 1;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return sessionId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,119 @@
+package org.com.taro.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 질문과 관계없는 카드 기본 해석 (카드 x 방향 x 시점 x 리더 타입 조합마다 하나, CardInterpretationGenerator가 미리 생성)
+ * id = {cardId}-{orientation}-{position}-{readerType} (예: 12-reversed-2-FT)
+ *
+ * CREATE TABLE card_interpretations (
+ *   id             VARCHAR(40)  NOT NULL PRIMARY KEY,
+ *   card_id        INT          NOT NULL,
+ *   orientation    VARCHAR(10)  NOT NULL,
+ *   position       INT          NOT NULL,
+ *   reader_type    VARCHAR(10)  NOT NULL,
+ *   interpretation TEXT         NOT NULL,
+ *   model          VARCHAR(100),
+ *   created_at     DATETIME(6)  NOT NULL
+ * );
+ */
+@Entity
+@Table(name = "card_interpretations")
+public class CardInterpretation implements Persistable<String> {
+
+    @Id
+    @Column(name = "id", length = 40, nullable = false)
+    private String id;
+
+    @Column(name = "card_id", nullable = false)
+    private Integer cardId;
+
+    @Column(name = "orientation", length = 10, nullable = false)
+    @Enumerated(EnumType.STRING)
+    private DrawnCard.Orientation orientation;
+
+    @Column(name = "position", nullable = false)
+    private Integer position;
+
+    @Column(name = "reader_type", length = 10, nullable = false)
+    private String readerType;
+
+    @Column(name = "interpretation", columnDefinition = "TEXT", nullable = false)
+    private String interpretation;
+
+    @Column(name = "model", length = 100)
+    private String model;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 항상 insert만 하므로 save() 시 merge용 select를 생략
+    @Transient
+    private boolean isNew = true;
+
+    public CardInterpretation() {}
+
+    public CardInterpretation(Integer cardId, DrawnCard.Orientation orientation, Integer position,
+                              String readerType, String interpretation, String model) {
+        this.id = idOf(cardId, orientation, position, readerType);
+        this.cardId = cardId;
+        this.orientation = orientation;
+        this.position = position;
+        this.readerType = readerType;
+        this.interpretation = interpretation;
+        this.model = model;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static String idOf(Integer cardId, DrawnCard.Orientation orientation, Integer position,
+                              String readerType) {
+        return cardId + "-" + orientation.name() + "-" + position + "-" + readerType.toUpperCase();
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public Integer getCardId() {
+        return cardId;
+    }
+
+    public DrawnCard.Orientation getOrientation() {
+        return orientation;
+    }
+
+    public Integer getPosition() {
+        return position;
+    }
+
+    public String getReaderType() {
+        return readerType;
+    }
+
+    public String getInterpretation() {
+        return interpretation;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
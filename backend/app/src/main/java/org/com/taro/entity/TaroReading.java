@@ -73,6 +73,7 @@ public class TaroReading {
     private Reader reader;
 
     @OneToMany(mappedBy = "reading", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OrderBy("position ASC")
     private List<DrawnCard> drawnCards;
 
     @ManyToOne(fetch = FetchType.LAZY)
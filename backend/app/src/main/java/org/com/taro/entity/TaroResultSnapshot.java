@@ -0,0 +1,95 @@
+package org.com.taro.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완료된 세션의 결과 JSON 스냅샷 (한 번 저장되면 변경되지 않음)
+ *
+ * CREATE TABLE taro_result_snapshots (
+ *   session_id VARCHAR(50) NOT NULL PRIMARY KEY,
+ *   etag       VARCHAR(80) NOT NULL,
+ *   body       MEDIUMBLOB  NOT NULL,
+ *   created_at DATETIME(6) NOT NULL
+ * );
+ */
+@Entity
+@Table(name = "taro_result_snapshots")
+public class TaroResultSnapshot implements Persistable<String> {
+
+    @Id
+    @Column(name = "session_id", length = 50, nullable = false)
+    private String sessionId;
+
+    @Column(name = "etag", length = 80, nullable = false)
+    private String etag;
+
+    @Column(name = "body", columnDefinition = "MEDIUMBLOB", nullable = false)
+    private byte[] body;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 항상 insert만 하므로 save() 시 merge용 select를 생략
+    @Transient
+    private boolean isNew = true;
+
+    public TaroResultSnapshot() {}
+
+    public TaroResultSnapshot(String sessionId, String etag, byte[] body) {
+        this.sessionId = sessionId;
+        this.etag = etag;
+        this.body = body;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public String getId() {
+        return sessionId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public void setBody(byte[] body) {
+        this.body = body;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
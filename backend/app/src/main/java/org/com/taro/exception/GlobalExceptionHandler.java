@@ -3,6 +3,8 @@ package org.com.taro.exception;
 import org.com.taro.dto.ErrorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -44,6 +46,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(404).body(errorResponse);
     }
 
+    /**
+     * Handle ReadingQueueFullException - 503 Service Unavailable
+     * 대기열이 가득 찬 경우 - 요청 스레드에서 기다리지 않고 바로 거절, Retry-After로 재시도 시점 안내
+     */
+    @ExceptionHandler(ReadingQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleReadingQueueFull(ReadingQueueFullException ex, WebRequest request) {
+        logger.warn("Reading queue full: {} for {}", ex.getMessage(), request.getDescription(false));
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            503,
+            "요청이 많아 잠시 후 다시 시도해주세요",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+
+    /**
+     * Handle SessionIdUnavailableException - 503 Service Unavailable
+     * 세션 생성이 노드의 초당 발급량을 넘은 경우 - 기다리지 않고 바로 거절
+     */
+    @ExceptionHandler(SessionIdUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleSessionIdUnavailable(SessionIdUnavailableException ex, WebRequest request) {
+        logger.warn("Session ID unavailable: {} for {}", ex.getMessage(), request.getDescription(false));
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            503,
+            "요청이 많아 잠시 후 다시 시도해주세요",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+
     /**
      * Handle TaroServiceException - 500 Internal Server Error
      */
@@ -0,0 +1,18 @@
+package org.com.taro.exception;
+
+/**
+ * 이 노드가 리딩 작업(ai_reading_jobs)의 lease를 잃었을 때 - 다른 노드가 이어받았으므로 처리를 중단하고 아무것도 기록/전송하지 않음
+ */
+public class LeaseLostException extends RuntimeException {
+
+    private final String sessionId;
+
+    public LeaseLostException(String sessionId) {
+        super("리딩 작업 lease를 잃었습니다 - 세션: " + sessionId);
+        this.sessionId = sessionId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+}
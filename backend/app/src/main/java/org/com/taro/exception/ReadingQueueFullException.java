@@ -0,0 +1,18 @@
+package org.com.taro.exception;
+
+/**
+ * 리딩 대기열이 가득 차서 새 리딩을 받을 수 없을 때 (503 + Retry-After)
+ */
+public class ReadingQueueFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ReadingQueueFullException(int queuedReadings, long retryAfterSeconds) {
+        super("리딩 대기열이 가득 찼습니다 (대기 " + queuedReadings + "건)");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,19 @@
+package org.com.taro.exception;
+
+/**
+ * 이 노드가 당겨 쓸 수 있는 세션 ID 시퀀스를 모두 쓴 경우 (503 + Retry-After)
+ * 시계가 따라올 때까지 기다리지 않고 바로 거절 - 1초 뒤면 다시 발급 가능
+ */
+public class SessionIdUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public SessionIdUnavailableException(int sequencePerSecond, long retryAfterSeconds) {
+        super("세션 생성 요청이 몰려 ID를 발급할 수 없습니다 (노드당 초당 " + sequencePerSecond + "건 초과)");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,52 @@
+package org.com.taro.exception;
+
+/**
+ * 업스트림 AI 호출을 보내지 않고 실패시킬 때 (회로 차단기 열림 / 동시 호출 한도 초과 / 노드 호출 대기 시간 초과)
+ * 호출하는 쪽은 기존 fallback으로 대체
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public enum Reason {
+        CIRCUIT_OPEN,
+        BULKHEAD_FULL,
+        QUEUE_TIMEOUT
+    }
+
+    private final String upstream;
+    private final Reason reason;
+    private final long retryAfterSeconds;
+
+    public UpstreamUnavailableException(String upstream, Reason reason, long retryAfterSeconds) {
+        super(upstream + " 호출 일시 중단 (" + reason + ")");
+        this.upstream = upstream;
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 원인 체인에서 찾기 (클라이언트가 RuntimeException으로 감싸서 던지므로) - 없으면 null
+     */
+    public static UpstreamUnavailableException find(Throwable error) {
+        for (Throwable e = error; e != null; e = e.getCause()) {
+            if (e instanceof UpstreamUnavailableException unavailable) {
+                return unavailable;
+            }
+            if (e.getCause() == e) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    public String getUpstream() {
+        return upstream;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
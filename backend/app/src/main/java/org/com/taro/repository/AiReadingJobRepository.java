@@ -0,0 +1,92 @@
+package org.com.taro.repository;
+
+import org.com.taro.entity.AiReadingJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AiReadingJobRepository extends JpaRepository<AiReadingJob, String> {
+
+    // 다시 제출된 세션 - 이전 작업 상태와 관계없이 새로 대기 상태로
+    @Modifying
+    @Transactional
+    @Query("UPDATE AiReadingJob j SET j.status = :status, j.leaseOwner = :owner, j.leaseExpiresAt = :leaseExpiresAt, " +
+           "j.attempts = 1, j.updatedAt = :now WHERE j.sessionId = :sessionId")
+    int reset(@Param("sessionId") String sessionId,
+              @Param("status") AiReadingJob.JobStatus status,
+              @Param("owner") String owner,
+              @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+              @Param("now") LocalDateTime now);
+
+    // 상태 변경 (lease를 가진 노드만)
+    @Modifying
+    @Transactional
+    @Query("UPDATE AiReadingJob j SET j.status = :status, j.updatedAt = :now " +
+           "WHERE j.sessionId = :sessionId AND j.leaseOwner = :owner")
+    int updateStatus(@Param("sessionId") String sessionId,
+                     @Param("owner") String owner,
+                     @Param("status") AiReadingJob.JobStatus status,
+                     @Param("now") LocalDateTime now);
+
+    // 완료/실패 - lease 해제 (lease를 가진 노드만)
+    @Modifying
+    @Transactional
+    @Query("UPDATE AiReadingJob j SET j.status = :status, j.leaseOwner = NULL, j.leaseExpiresAt = NULL, " +
+           "j.updatedAt = :now WHERE j.sessionId = :sessionId AND j.leaseOwner = :owner")
+    int finish(@Param("sessionId") String sessionId,
+               @Param("owner") String owner,
+               @Param("status") AiReadingJob.JobStatus status,
+               @Param("now") LocalDateTime now);
+
+    // heartbeat - 이 노드가 가진 작업의 lease 연장
+    @Modifying
+    @Transactional
+    @Query("UPDATE AiReadingJob j SET j.leaseExpiresAt = :leaseExpiresAt " +
+           "WHERE j.sessionId IN :sessionIds AND j.leaseOwner = :owner")
+    int extendLeases(@Param("sessionIds") Collection<String> sessionIds,
+                     @Param("owner") String owner,
+                     @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    // heartbeat에서 연장되지 않은 작업 확인용 - 아직 이 노드가 lease를 가진 세션
+    @Query("SELECT j.sessionId FROM AiReadingJob j WHERE j.sessionId IN :sessionIds AND j.leaseOwner = :owner")
+    List<String> findOwnedSessionIds(@Param("sessionIds") Collection<String> sessionIds,
+                                     @Param("owner") String owner);
+
+    // 종료 시 아직 시작하지 않은 작업의 lease를 바로 내려놓아 다른 노드가 기다리지 않고 가져가게 함
+    @Modifying
+    @Transactional
+    @Query("UPDATE AiReadingJob j SET j.leaseExpiresAt = :now " +
+           "WHERE j.sessionId IN :sessionIds AND j.leaseOwner = :owner")
+    int releaseLeases(@Param("sessionIds") Collection<String> sessionIds,
+                      @Param("owner") String owner,
+                      @Param("now") LocalDateTime now);
+
+    // lease가 끝난 진행 중 작업 (처리하던 노드가 죽었거나 종료됨)
+    @Query("SELECT j.sessionId FROM AiReadingJob j WHERE j.status IN :statuses AND j.leaseExpiresAt < :now " +
+           "ORDER BY j.leaseExpiresAt")
+    List<String> findExpiredSessionIds(@Param("statuses") Collection<AiReadingJob.JobStatus> statuses,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    // lease가 끝난 작업 가져오기 - 여러 노드가 동시에 시도해도 한 노드만 1을 받음
+    @Modifying
+    @Transactional
+    @Query("UPDATE AiReadingJob j SET j.status = :pending, j.leaseOwner = :owner, j.leaseExpiresAt = :leaseExpiresAt, " +
+           "j.attempts = j.attempts + 1, j.updatedAt = :now " +
+           "WHERE j.sessionId = :sessionId AND j.status IN :statuses AND j.leaseExpiresAt < :now")
+    int claimExpired(@Param("sessionId") String sessionId,
+                     @Param("statuses") Collection<AiReadingJob.JobStatus> statuses,
+                     @Param("pending") AiReadingJob.JobStatus pending,
+                     @Param("owner") String owner,
+                     @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+                     @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,16 @@
+package org.com.taro.repository;
+
+import org.com.taro.entity.CardInterpretation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CardInterpretationRepository extends JpaRepository<CardInterpretation, String> {
+
+    // 생성기에서 이미 있는 조합을 건너뛰기 위한 id 목록
+    @Query("SELECT ci.id FROM CardInterpretation ci")
+    List<String> findAllIds();
+}
@@ -0,0 +1,78 @@
+package org.com.taro.repository;
+
+import org.com.taro.entity.DrawnCard;
+import org.com.taro.entity.TaroSession;
+import org.com.taro.exception.TaroServiceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Session creation write path using plain JDBC
+ * 세션 생성 시 세션/리딩/뽑은 카드를 JDBC로 한 번에 기록 (IDENTITY 키라 JPA insert 배치가 불가능하기 때문)
+ */
+@Repository
+public class SessionCreationRepository {
+
+    private static final String INSERT_SESSION =
+            "INSERT INTO taro_sessions (session_id, nickname, status, processing_status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_READING =
+            "INSERT INTO taro_readings (session_id, created_at) VALUES (?, ?)";
+
+    private static final String INSERT_DRAWN_CARD =
+            "INSERT INTO drawn_cards (reading_id, position, card_id, orientation, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SessionCreationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 세션(최종 상태로), 빈 리딩, 뽑은 카드를 기록하고 생성된 리딩 ID를 반환
+     * 한 트랜잭션으로 실행되며 (호출 측 트랜잭션이 있으면 참여) drawn_cards는 단일 JDBC 배치로 전송됨
+     */
+    @Transactional
+    public Integer insertSessionWithCards(String sessionId, String nickname,
+                                          TaroSession.ProcessingStatus processingStatus,
+                                          List<DrawnCard> drawnCards) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update(INSERT_SESSION, sessionId, nickname,
+                TaroSession.SessionStatus.ACTIVE.name(), processingStatus.name(), now, now);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_READING, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, sessionId);
+            ps.setTimestamp(2, now);
+            return ps;
+        }, keyHolder);
+
+        Number key = keyHolder.getKey();
+        if (key == null) {
+            throw new TaroServiceException("TaroReading id was not generated for session: " + sessionId);
+        }
+        int readingId = key.intValue();
+
+        jdbcTemplate.batchUpdate(INSERT_DRAWN_CARD, drawnCards, drawnCards.size(), (ps, drawnCard) -> {
+            ps.setInt(1, readingId);
+            ps.setInt(2, drawnCard.getPosition());
+            ps.setInt(3, drawnCard.getCardId());
+            ps.setString(4, drawnCard.getOrientation().name());
+            ps.setTimestamp(5, now);
+        });
+
+        return readingId;
+    }
+}
@@ -2,9 +2,11 @@ package org.com.taro.repository;
 
 import org.com.taro.entity.TaroReading;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,11 +25,53 @@ public interface TaroReadingRepository extends JpaRepository<TaroReading, Intege
 
     List<TaroReading> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
-    @Query("SELECT tr FROM TaroReading tr JOIN FETCH tr.drawnCards WHERE tr.sessionId = :sessionId")
+    // 결과 조회용: 세션, 뽑은 카드, 행운 카드를 한 번에 로딩
+    @Query("SELECT DISTINCT tr FROM TaroReading tr JOIN FETCH tr.session LEFT JOIN FETCH tr.drawnCards " +
+           "LEFT JOIN FETCH tr.luckyCard WHERE tr.sessionId = :sessionId")
     Optional<TaroReading> findBySessionIdWithDrawnCards(@Param("sessionId") String sessionId);
 
     @Query("SELECT COUNT(tr) FROM TaroReading tr WHERE tr.sessionId = :sessionId")
     long countBySessionId(@Param("sessionId") String sessionId);
 
     boolean existsBySessionId(String sessionId);
+
+    // AI 처리 체크포인트 - 해석이 끝날 때마다 바로 저장해서 재시작 시 다시 생성하지 않음
+    // 작업(ai_reading_jobs) lease를 가진 노드만 기록 - 다른 노드가 이어받은 뒤에는 0 반환
+    @Modifying
+    @Transactional
+    @Query("UPDATE TaroReading tr SET tr.pastInterpretation = :text WHERE tr.sessionId = :sessionId" +
+           " AND EXISTS (SELECT j.sessionId FROM AiReadingJob j WHERE j.sessionId = :sessionId AND j.leaseOwner = :owner)")
+    int updatePastInterpretation(@Param("sessionId") String sessionId, @Param("owner") String owner,
+            @Param("text") String text);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TaroReading tr SET tr.presentInterpretation = :text WHERE tr.sessionId = :sessionId" +
+           " AND EXISTS (SELECT j.sessionId FROM AiReadingJob j WHERE j.sessionId = :sessionId AND j.leaseOwner = :owner)")
+    int updatePresentInterpretation(@Param("sessionId") String sessionId, @Param("owner") String owner,
+            @Param("text") String text);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TaroReading tr SET tr.futureInterpretation = :text WHERE tr.sessionId = :sessionId" +
+           " AND EXISTS (SELECT j.sessionId FROM AiReadingJob j WHERE j.sessionId = :sessionId AND j.leaseOwner = :owner)")
+    int updateFutureInterpretation(@Param("sessionId") String sessionId, @Param("owner") String owner,
+            @Param("text") String text);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TaroReading tr SET tr.interpretation = :text WHERE tr.sessionId = :sessionId" +
+           " AND EXISTS (SELECT j.sessionId FROM AiReadingJob j WHERE j.sessionId = :sessionId AND j.leaseOwner = :owner)")
+    int updateSummary(@Param("sessionId") String sessionId, @Param("owner") String owner,
+            @Param("text") String text);
+
+    // 마지막 단계 - 총평 기반 점수 + 행운카드 재해석 메시지 (엔티티 merge 없이 두 컬럼만)
+    @Modifying
+    @Transactional
+    @Query("UPDATE TaroReading tr SET tr.fortuneScore = :fortuneScore, tr.resultImageText = :luckyMessage " +
+           "WHERE tr.sessionId = :sessionId" +
+           " AND EXISTS (SELECT j.sessionId FROM AiReadingJob j WHERE j.sessionId = :sessionId AND j.leaseOwner = :owner)")
+    int updateLuckyCardResult(@Param("sessionId") String sessionId, @Param("owner") String owner,
+                              @Param("fortuneScore") Integer fortuneScore,
+                              @Param("luckyMessage") String luckyMessage);
 }
\ No newline at end of file
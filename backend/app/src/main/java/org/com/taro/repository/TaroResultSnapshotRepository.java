@@ -0,0 +1,9 @@
+package org.com.taro.repository;
+
+import org.com.taro.entity.TaroResultSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaroResultSnapshotRepository extends JpaRepository<TaroResultSnapshot, String> {
+}
@@ -2,11 +2,14 @@ package org.com.taro.repository;
 
 import org.com.taro.entity.TaroSession;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -39,4 +42,31 @@ public interface TaroSessionRepository extends JpaRepository<TaroSession, String
     @Query("SELECT s FROM TaroSession s WHERE s.updatedAt < :expireTime AND s.status = :status")
     List<TaroSession> findExpiredSessions(@Param("expireTime") LocalDateTime expireTime,
                                         @Param("status") TaroSession.SessionStatus status);
-}
\ No newline at end of file
+
+    // 처리 상태만 갱신 (엔티티 조회 없이 UPDATE 한 번) - AI 처리 체크포인트용, 작업 lease를 가진 노드만
+    @Modifying
+    @Transactional
+    @Query("UPDATE TaroSession s SET s.processingStatus = :processingStatus, s.updatedAt = :updatedAt WHERE s.sessionId = :sessionId" +
+           " AND EXISTS (SELECT j.sessionId FROM AiReadingJob j WHERE j.sessionId = :sessionId AND j.leaseOwner = :owner)")
+    int updateProcessingStatus(@Param("sessionId") String sessionId,
+                               @Param("owner") String owner,
+                               @Param("processingStatus") TaroSession.ProcessingStatus processingStatus,
+                               @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 처리 상태 + 세션 상태 갱신 - AI 처리 최종 상태용, 작업 lease를 가진 노드만
+    @Modifying
+    @Transactional
+    @Query("UPDATE TaroSession s SET s.processingStatus = :processingStatus, s.status = :status, s.updatedAt = :updatedAt WHERE s.sessionId = :sessionId" +
+           " AND EXISTS (SELECT j.sessionId FROM AiReadingJob j WHERE j.sessionId = :sessionId AND j.leaseOwner = :owner)")
+    int updateStatuses(@Param("sessionId") String sessionId,
+                       @Param("owner") String owner,
+                       @Param("processingStatus") TaroSession.ProcessingStatus processingStatus,
+                       @Param("status") TaroSession.SessionStatus status,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 처리 중 상태인데 작업(ai_reading_jobs) 기록이 없는 세션 - 작업 테이블 도입 전에 제출된 리딩
+    @Query("SELECT s.sessionId FROM TaroSession s WHERE s.processingStatus IN :statuses AND s.updatedAt < :before " +
+           "AND NOT EXISTS (SELECT j.sessionId FROM AiReadingJob j WHERE j.sessionId = s.sessionId)")
+    List<String> findSessionIdsWithoutJob(@Param("statuses") Collection<TaroSession.ProcessingStatus> statuses,
+                                          @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,34 @@
+package org.com.taro.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * In-process event bus (single node)
+ * 발행한 스레드에서 바로 구독자를 호출하므로 기존 동작과 동일
+ */
+@Component
+@ConditionalOnProperty(name = "sse.event-bus", havingValue = "local", matchIfMissing = true)
+public class LocalSseEventBus implements SseEventBus {
+
+    private final List<SseEventBusListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(SessionEvent event) {
+        for (SseEventBusListener listener : listeners) {
+            if (listener.accepts(event.getSessionId(), event.getEventType())) {
+                listener.accept(event);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<SessionEvent> listener, BiPredicate<String, String> accepts) {
+        listeners.add(new SseEventBusListener(listener, accepts));
+    }
+}
@@ -0,0 +1,96 @@
+package org.com.taro.service;
+
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Reactive SSE subscribers per session (sse.reactive.enabled=true)
+ * 구독자마다 크기가 제한된 unicast Sinks.Many를 두고, SSEManager가 세션 전송 잠금 안에서 이벤트를 넣음
+ * (구독 등록도 같은 잠금 안에서 하므로 snapshot/재전송과 실시간 이벤트 사이에 빠지는 이벤트가 없음)
+ *
+ * 서블릿 비동기 컨텍스트를 쓰지 않으므로 유휴 구독자는 메모리(큐)만 차지
+ * 큐가 찼을 때: card_delta / status_changed는 버리고, 그 외 이벤트면 스트림을 닫아 클라이언트가 Last-Event-ID로 이어받게 함
+ */
+final class ReactiveSseSubscribers {
+
+    private final ConcurrentHashMap<String, CopyOnWriteArrayList<Sinks.Many<ServerSentEvent<String>>>> bySession =
+            new ConcurrentHashMap<>();
+    private final int queueSize;
+
+    ReactiveSseSubscribers(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * 새 구독자 등록 (호출자가 세션 전송 잠금을 잡은 상태여야 함)
+     */
+    Sinks.Many<ServerSentEvent<String>> register(String sessionId) {
+        Sinks.Many<ServerSentEvent<String>> sink = Sinks.many().unicast()
+                .onBackpressureBuffer(Queues.<ServerSentEvent<String>>get(queueSize).get());
+        bySession.computeIfAbsent(sessionId, k -> new CopyOnWriteArrayList<>()).add(sink);
+        return sink;
+    }
+
+    void unregister(String sessionId, Sinks.Many<ServerSentEvent<String>> sink) {
+        bySession.computeIfPresent(sessionId, (k, sinks) -> {
+            sinks.remove(sink);
+            return sinks.isEmpty() ? null : sinks;
+        });
+    }
+
+    boolean hasSubscribers(String sessionId) {
+        return bySession.containsKey(sessionId);
+    }
+
+    /**
+     * 세션의 모든 구독자에게 전달 (호출자가 세션 전송 잠금을 잡은 상태여야 함)
+     *
+     * @param droppable 큐가 찼을 때 버려도 되는 이벤트인지
+     * @param terminal  마지막 이벤트면 전달 후 스트림 종료
+     */
+    void emit(String sessionId, ServerSentEvent<String> event, boolean droppable, boolean terminal) {
+        CopyOnWriteArrayList<Sinks.Many<ServerSentEvent<String>>> sinks = bySession.get(sessionId);
+        if (sinks == null) {
+            return;
+        }
+        for (Sinks.Many<ServerSentEvent<String>> sink : sinks) {
+            Sinks.EmitResult result = sink.tryEmitNext(event);
+            if (terminal || (result.isFailure() && !droppable)) {
+                sink.tryEmitComplete();
+                sinks.remove(sink);
+            }
+        }
+        if (terminal) {
+            bySession.remove(sessionId, sinks);
+        }
+    }
+
+    /**
+     * heartbeat - 큐가 차서 실패하면 무시, 이미 보낼 이벤트가 쌓여 있다는 뜻 (호출자가 세션 전송 잠금을 잡은 상태여야 함)
+     */
+    void ping(String sessionId, ServerSentEvent<String> heartbeat) {
+        CopyOnWriteArrayList<Sinks.Many<ServerSentEvent<String>>> sinks = bySession.get(sessionId);
+        if (sinks != null) {
+            for (Sinks.Many<ServerSentEvent<String>> sink : sinks) {
+                sink.tryEmitNext(heartbeat);
+            }
+        }
+    }
+
+    Set<String> sessionIds() {
+        return bySession.keySet();
+    }
+
+    int count() {
+        int count = 0;
+        for (CopyOnWriteArrayList<Sinks.Many<ServerSentEvent<String>>> sinks : bySession.values()) {
+            count += sinks.size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,172 @@
+package org.com.taro.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.com.taro.enums.ProcessingStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * In-memory reading progress per session
+ * SSE 전달 경로에서 받은 이벤트로 현재 상태 / 완료된 카드 해석 / 총평을 갱신
+ * (버스로 모든 노드에 이벤트가 오므로 어느 노드에서 구독해도 같은 상태를 볼 수 있음)
+ *
+ * 늦게 구독한 클라이언트에게 DB 조회 없이 snapshot 이벤트를 보내는 용도
+ */
+@Component
+public class ReadingProgressRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadingProgressRegistry.class);
+
+    private final ObjectReader jsonTreeReader;
+    private final Cache<String, Progress> progressBySession;
+
+    public ReadingProgressRegistry(ObjectReader jsonTreeReader,
+                                   @Value("${sse.progress.max-sessions:10000}") long maxSessions,
+                                   @Value("${sse.progress.ttl:1800}") long ttlSeconds) {
+        this.jsonTreeReader = jsonTreeReader;
+        // 최종 상태도 TTL 동안은 남겨서 완료 직후 구독한 클라이언트를 바로 닫을 수 있게 함
+        this.progressBySession = CacheBuilder.newBuilder()
+                .maximumSize(maxSessions)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 전달된 이벤트 반영 (SSEManager가 세션 전송 잠금 안에서 호출)
+     */
+    void record(SessionEvent event) {
+        String eventType = event.getEventType();
+        if ("card_delta".equals(eventType)) {
+            return;
+        }
+
+        Progress progress = progressBySession.asMap().computeIfAbsent(event.getSessionId(), k -> new Progress());
+        try {
+            switch (eventType) {
+                case "status_changed" -> recordStatus(progress, jsonTreeReader.readValue(event.getData()));
+                case "card_interpreted" -> {
+                    JsonNode data = jsonTreeReader.readValue(event.getData());
+                    progress.interpretation(data.path("position").asInt(), data.path("interpretation").asText(null));
+                    recordStatus(progress, data);
+                }
+                case "summary_generated" -> {
+                    JsonNode data = jsonTreeReader.readValue(event.getData());
+                    progress.summary(data.path("summary").asText(null));
+                    recordStatus(progress, data);
+                }
+                case "queued" -> {
+                    JsonNode data = jsonTreeReader.readValue(event.getData());
+                    progress.queued(data.path("position").asInt(),
+                            data.path("estimatedWaitSeconds").isNumber() ? data.path("estimatedWaitSeconds").asInt() : null);
+                }
+                case "completed" -> progress.status(ProcessingStatus.COMPLETED.getCode(), 100);
+                case "error" -> progress.status(ProcessingStatus.FAILED.getCode(), null);
+                default -> {
+                    // image_generated 등은 snapshot에 포함하지 않음
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to record progress for session: {}, type: {}", event.getSessionId(), eventType, e);
+        }
+        progress.lastEventId(event.getId());
+    }
+
+    // status_changed, 그리고 상태를 함께 싣는 card_interpreted / summary_generated의 status / progress 반영
+    private static void recordStatus(Progress progress, JsonNode data) {
+        progress.status(data.path("status").asText(null),
+                data.path("progress").isNumber() ? data.path("progress").asInt() : null);
+    }
+
+    /**
+     * 현재 진행 상태 (이 노드가 아직 이벤트를 하나도 못 받았으면 null)
+     */
+    public Progress find(String sessionId) {
+        return progressBySession.getIfPresent(sessionId);
+    }
+
+    /**
+     * 세션 하나의 진행 상태 (갱신과 조회가 다른 스레드에서 일어나므로 동기화)
+     */
+    public static final class Progress {
+
+        private String status;
+        private Integer progress;
+        private final Map<Integer, String> interpretations = new TreeMap<>();
+        private String summary;
+        private long lastEventId;
+        private Integer queuePosition;
+        private Integer estimatedWaitSeconds;
+
+        private synchronized void status(String status, Integer progress) {
+            if (status != null) {
+                this.status = status;
+                // 처리 상태가 오면 대기열을 벗어난 것
+                this.queuePosition = null;
+                this.estimatedWaitSeconds = null;
+            }
+            if (progress != null) {
+                this.progress = progress;
+            }
+        }
+
+        private synchronized void queued(int position, Integer estimatedWaitSeconds) {
+            this.queuePosition = position;
+            this.estimatedWaitSeconds = estimatedWaitSeconds;
+        }
+
+        private synchronized void interpretation(int position, String interpretation) {
+            if (interpretation != null) {
+                interpretations.put(position, interpretation);
+            }
+        }
+
+        private synchronized void summary(String summary) {
+            this.summary = summary;
+        }
+
+        private synchronized void lastEventId(long id) {
+            this.lastEventId = Math.max(this.lastEventId, id);
+        }
+
+        public synchronized String getStatus() {
+            return status;
+        }
+
+        public synchronized Integer getProgress() {
+            return progress;
+        }
+
+        public synchronized Map<Integer, String> getInterpretations() {
+            return Map.copyOf(interpretations);
+        }
+
+        public synchronized String getSummary() {
+            return summary;
+        }
+
+        public synchronized Integer getQueuePosition() {
+            return queuePosition;
+        }
+
+        public synchronized Integer getEstimatedWaitSeconds() {
+            return estimatedWaitSeconds;
+        }
+
+        public synchronized long getLastEventId() {
+            return lastEventId;
+        }
+
+        public synchronized boolean isFinal() {
+            return ProcessingStatus.isFinalStatus(status);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.com.taro.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub event bus (multi node)
+ * 모든 노드가 같은 채널을 구독하고, 이벤트를 받은 노드 중 해당 세션의 emitter를 가진 노드만 실제로 전송
+ * 메시지 앞부분(세션 ID, 이벤트 이름)만 읽어 구독자 조건(accepts)에 맞지 않으면 본문을 디코딩하지 않고 버림
+ * (다른 노드에 연결된 세션의 card_delta가 대부분 여기서 걸러짐)
+ *
+ * 빈 등록은 RedisEventBusConfig에서 sse.event-bus=redis 일 때만
+ */
+public class RedisSseEventBus implements SseEventBus, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisSseEventBus.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChannelTopic topic;
+    private final List<SseEventBusListener> listeners = new CopyOnWriteArrayList<>();
+    private final Counter publishFailures;
+    private final Counter messagesSkipped;
+
+    public RedisSseEventBus(StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            String channel) {
+        this.redisTemplate = redisTemplate;
+        this.topic = new ChannelTopic(channel);
+        this.publishFailures = Counter.builder("sse.bus.publish.failures")
+                .description("SSE events that could not be published to Redis (not delivered to any node)")
+                .register(meterRegistry);
+        this.messagesSkipped = Counter.builder("sse.bus.messages.skipped")
+                .description("SSE bus messages discarded before decoding because no local subscriber wanted them")
+                .register(meterRegistry);
+        listenerContainer.addMessageListener(this, topic);
+    }
+
+    @Override
+    public void publish(SessionEvent event) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), event.encode());
+        } catch (Exception e) {
+            // 브로커 장애가 AI 처리까지 실패시키지 않도록 기록만 (결과는 /result, 재연결 시 snapshot으로 복구)
+            publishFailures.increment();
+            logger.warn("Failed to publish SSE event to Redis - session: {}, type: {}",
+                    event.getSessionId(), event.getEventType(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<SessionEvent> listener, BiPredicate<String, String> accepts) {
+        listeners.add(new SseEventBusListener(listener, accepts));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        SessionEvent event;
+        try {
+            event = SessionEvent.decode(message.getBody(), this::anyListenerAccepts);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring malformed SSE bus message on channel {}", topic.getTopic());
+            return;
+        }
+        if (event == null) {
+            messagesSkipped.increment();
+            return;
+        }
+        for (SseEventBusListener listener : listeners) {
+            if (listener.accepts(event.getSessionId(), event.getEventType())) {
+                listener.accept(event);
+            }
+        }
+    }
+
+    private boolean anyListenerAccepts(String sessionId, String eventType) {
+        for (SseEventBusListener listener : listeners) {
+            if (listener.accepts(sessionId, eventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,171 @@
+package org.com.taro.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.com.taro.dto.TaroResultResponse;
+import org.com.taro.entity.TaroResultSnapshot;
+import org.com.taro.enums.ProcessingStatus;
+import org.com.taro.exception.TaroServiceException;
+import org.com.taro.repository.TaroResultSnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Frozen result snapshots for completed sessions
+ * COMPLETED 이후 변하지 않는 결과를 JSON 바이트로 한 번만 직렬화해서 DB와 메모리에 보관
+ *
+ * - 리딩이 끝나는 시점에 저장 (ReadingProgressTracker.completed) - 첫 조회 때 만들지 않음
+ * - 메모리 캐시는 바이트 크기 기준으로 제한 (cache.taro-results.max-bytes)
+ * - 캐시에 없으면 taro_result_snapshots PK 조회 한 번으로 복구 - 처리 중으로 알려진 세션은 제외 (폴링에 DB 조회를 더하지 않음)
+ */
+@Service
+public class ResultSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultSnapshotService.class);
+
+    private final TaroResultSnapshotRepository snapshotRepository;
+    private final ObjectWriter jsonWriter;
+    private final ReadingProgressRegistry progressRegistry;
+    private final Cache<String, Snapshot> cache;
+
+    public ResultSnapshotService(TaroResultSnapshotRepository snapshotRepository,
+                                 ObjectWriter jsonWriter,
+                                 ReadingProgressRegistry progressRegistry,
+                                 @Value("${cache.taro-results.max-bytes:33554432}") long maxBytes,
+                                 @Value("${cache.taro-results.ttl:3600}") long ttlSeconds) {
+        this.snapshotRepository = snapshotRepository;
+        this.jsonWriter = jsonWriter;
+        this.progressRegistry = progressRegistry;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String sessionId, Snapshot snapshot) -> snapshot.weight())
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 결과 조회 첫 단계 - 메모리 → DB 순으로 조회
+     * 이 노드가 받은 이벤트로 아직 완료되지 않은 것이 확인된 세션만 DB 조회 없이 empty (일반 조회 경로에서 상태 확인)
+     * 진행 상태를 모르는 세션(sse.progress.ttl 경과, 재시작, 다른 노드에서 처리)은 PK 조회 - 나중에 다시 여는 공유 링크가 여기에 해당
+     */
+    public Optional<Snapshot> findCompletedSnapshot(String sessionId) {
+        Snapshot cached = cache.getIfPresent(sessionId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        ReadingProgressRegistry.Progress progress = progressRegistry.find(sessionId);
+        if (progress != null && !ProcessingStatus.COMPLETED.getCode().equals(progress.getStatus())) {
+            return Optional.empty();
+        }
+        return findSnapshot(sessionId);
+    }
+
+    /**
+     * 저장된 스냅샷 조회 (메모리 → DB 순)
+     */
+    public Optional<Snapshot> findSnapshot(String sessionId) {
+        Snapshot cached = cache.getIfPresent(sessionId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<Snapshot> stored = snapshotRepository.findById(sessionId)
+                .map(entity -> new Snapshot(entity.getEtag(), entity.getBody()));
+        stored.ifPresent(snapshot -> cache.put(sessionId, snapshot));
+        return stored;
+    }
+
+    /**
+     * 완료된 결과를 직렬화해서 저장하고 스냅샷 반환
+     * 동시에 두 요청이 얼리면 먼저 저장된 쪽을 사용
+     */
+    public Snapshot freeze(TaroResultResponse result) {
+        String sessionId = result.getSessionId();
+        byte[] body;
+        try {
+            body = jsonWriter.writeValueAsBytes(result);
+        } catch (JsonProcessingException e) {
+            throw new TaroServiceException("Failed to serialize result snapshot for session: " + sessionId, e);
+        }
+        Snapshot snapshot = new Snapshot(computeEtag(body), body);
+
+        try {
+            snapshotRepository.save(new TaroResultSnapshot(sessionId, snapshot.getEtag(), body));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Result snapshot already stored for session {}", sessionId);
+            Optional<Snapshot> existing = snapshotRepository.findById(sessionId)
+                    .map(entity -> new Snapshot(entity.getEtag(), entity.getBody()));
+            if (existing.isPresent()) {
+                snapshot = existing.get();
+            }
+        }
+
+        cache.put(sessionId, snapshot);
+        return snapshot;
+    }
+
+    private static String computeEtag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 직렬화가 끝난 결과 (body는 외부에서 수정하지 않음)
+     */
+    public static final class Snapshot {
+
+        private final String etag;
+        private final byte[] body;
+
+        public Snapshot(String etag, byte[] body) {
+            this.etag = etag;
+            this.body = body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * If-None-Match 헤더 값과 비교 (여러 개 / 약한 ETag / * 허용)
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int weight() {
+            return body.length + etag.length();
+        }
+    }
+}
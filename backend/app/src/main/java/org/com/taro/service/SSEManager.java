@@ -1,13 +1,33 @@
 package org.com.taro.service;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
 
 @Service
 public class SSEManager {
@@ -15,24 +35,129 @@ public class SSEManager {
     private static final Logger logger = LoggerFactory.getLogger(SSEManager.class);
     private static final long SSE_TIMEOUT = 30 * 60 * 1000L; // 30 minutes
 
-    // 세션별 SSE 연결 관리
-    private final ConcurrentHashMap<String, CopyOnWriteArrayList<SseEmitter>> sessionEmitters = new ConcurrentHashMap<>();
+    // 세션별 SSE 연결 관리 (연결마다 전송 큐를 가짐)
+    private final ConcurrentHashMap<String, CopyOnWriteArrayList<SseConnection>> sessionEmitters = new ConcurrentHashMap<>();
+
+    // 이벤트 이름 - completed / error는 세션이 최종 상태(COMPLETED / FAILED)에 도달했다는 뜻
+    private static final String EVENT_CARD_DELTA = "card_delta";
+    private static final String EVENT_STATUS_CHANGED = "status_changed";
+    private static final String EVENT_QUEUED = "queued";
+    private static final String EVENT_UPSTREAM_UNAVAILABLE = "upstream_unavailable";
+    private static final Set<String> TERMINAL_EVENTS = Set.of("completed", "error");
+    private static final SseFrame HEARTBEAT = SseFrame.comment("ping");
+    private static final ServerSentEvent<String> REACTIVE_HEARTBEAT = ServerSentEvent.<String>builder().comment("ping").build();
+
+    private final ObjectWriter jsonWriter;
+    private final SseEventBus eventBus;
+    private final ReadingProgressRegistry progressRegistry;
+    private final Executor sseWriter;
+    private final int replayBufferSize;
+    private final int outboundQueueSize;
+    private final long writeTimeoutNanos;
+
+    // 이벤트 ID 하한 = 현재 시각(ms) x 1000 - 1ms에 1000개까지는 시계를 앞서가지 않음 (JS Number 정밀도 안쪽)
+    private static final long EVENT_IDS_PER_MILLI = 1000;
+
+    // 발행 쪽: 세션별 마지막 이벤트 ID (nextEventId)
+    private final Cache<String, AtomicLong> eventSequences;
+
+    // 리액티브 엔드포인트(sse.reactive.enabled) 구독자 - 서블릿 연결과 같은 이벤트/순서로 전달
+    private final ReactiveSseSubscribers reactiveSubscribers;
+
+    // 전달 쪽: 세션별 최근 이벤트 (버스로 받은 모든 세션을 보관 - 다른 노드로 재연결해도 이어받기 가능)
+    private final Cache<String, SseReplayBuffer> replayBuffers;
+
+    private final Counter deadEmittersReaped;
+    private final Counter finishedEmittersReaped;
+    private final Counter stalledEmittersReaped;
+    private final Counter deltasDropped;
+    private final Counter statusesCoalesced;
+
+    public SSEManager(ObjectWriter jsonWriter,
+                      SseEventBus eventBus,
+                      ReadingProgressRegistry progressRegistry,
+                      MeterRegistry meterRegistry,
+                      @Qualifier("sseWriterExecutor") Executor sseWriter,
+                      @Value("${sse.replay-buffer-size:32}") int replayBufferSize,
+                      @Value("${sse.replay-buffer-sessions:10000}") long maxReplaySessions,
+                      @Value("${sse.outbound-queue-size:64}") int outboundQueueSize,
+                      @Value("${sse.write-timeout-ms:30000}") long writeTimeoutMs) {
+        if (replayBufferSize <= 0) {
+            throw new IllegalArgumentException("sse.replay-buffer-size must be positive: " + replayBufferSize);
+        }
+        if (outboundQueueSize <= 0) {
+            throw new IllegalArgumentException("sse.outbound-queue-size must be positive: " + outboundQueueSize);
+        }
+        this.jsonWriter = jsonWriter;
+        this.eventBus = eventBus;
+        this.progressRegistry = progressRegistry;
+        this.sseWriter = sseWriter;
+        this.replayBufferSize = replayBufferSize;
+        this.outboundQueueSize = outboundQueueSize;
+        this.writeTimeoutNanos = Duration.ofMillis(writeTimeoutMs).toNanos();
+        this.reactiveSubscribers = new ReactiveSseSubscribers(outboundQueueSize);
+        // 최종 이벤트를 못 받은 세션(서버 재시작 등)도 SSE 타임아웃이 지나면 정리
+        this.eventSequences = CacheBuilder.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(SSE_TIMEOUT))
+                .build();
+        this.replayBuffers = CacheBuilder.newBuilder()
+                .maximumSize(maxReplaySessions)
+                .expireAfterAccess(Duration.ofMillis(SSE_TIMEOUT))
+                .build();
+        // 어느 노드에서 발행된 이벤트든 이 노드의 emitter로 전달
+        // card_delta는 재전송 버퍼 / 진행 상태에 남기지 않으므로 이 노드에 연결이 있는 세션 것만 받음
+        eventBus.subscribe(this::deliver, this::wantsEvent);
+
+        // 노드별 연결 수 (Tomcat max-connections 대비 여유 확인용)
+        Gauge.builder("sse.emitters.open", this, SSEManager::getOpenEmitterCount)
+                .description("Open SSE emitters on this node")
+                .register(meterRegistry);
+        Gauge.builder("sse.sessions.connected", sessionEmitters, Map::size)
+                .description("Sessions with at least one SSE emitter on this node")
+                .register(meterRegistry);
+        Gauge.builder("sse.reactive.subscribers", reactiveSubscribers, ReactiveSseSubscribers::count)
+                .description("Open subscribers on the reactive SSE endpoint on this node")
+                .register(meterRegistry);
+        this.deadEmittersReaped = Counter.builder("sse.emitters.reaped")
+                .tag("reason", "dead")
+                .register(meterRegistry);
+        this.finishedEmittersReaped = Counter.builder("sse.emitters.reaped")
+                .tag("reason", "finished")
+                .register(meterRegistry);
+        this.stalledEmittersReaped = Counter.builder("sse.emitters.reaped")
+                .tag("reason", "stalled")
+                .register(meterRegistry);
+        this.deltasDropped = Counter.builder("sse.frames.dropped")
+                .description("card_delta frames dropped because a client's outbound queue was full")
+                .register(meterRegistry);
+        this.statusesCoalesced = Counter.builder("sse.frames.coalesced")
+                .description("Pending status_changed frames replaced by a newer status")
+                .register(meterRegistry);
+    }
 
     /**
      * 새로운 SSE 연결 등록
      */
     public SseEmitter addEmitter(String sessionId) {
-        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
+        return addEmitter(sessionId, null);
+    }
 
-        // 세션별 연결 목록에 추가
-        sessionEmitters.computeIfAbsent(sessionId, k -> new CopyOnWriteArrayList<>()).add(emitter);
+    /**
+     * 새로운 SSE 연결 등록 (재연결이면 lastEventId 이후에 놓친 이벤트를 먼저 재전송)
+     * 새 구독이면 지금까지의 진행 상태를 snapshot 이벤트로 먼저 보내고, 이미 최종 상태면 바로 스트림 종료
+     *
+     * @param lastEventId 브라우저가 보낸 Last-Event-ID 헤더 값 (없으면 null)
+     */
+    public SseEmitter addEmitter(String sessionId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
+        SseConnection connection = new SseConnection(sessionId, emitter, sseWriter, outboundQueueSize, this::onWriteFailure);
 
         // 연결 완료/타임아웃 시 정리
-        emitter.onCompletion(() -> removeEmitter(sessionId, emitter));
-        emitter.onTimeout(() -> removeEmitter(sessionId, emitter));
+        emitter.onCompletion(() -> removeEmitter(sessionId, connection));
+        emitter.onTimeout(() -> removeEmitter(sessionId, connection));
         emitter.onError((throwable) -> {
             logger.error("SSE error for session: {}", sessionId, throwable);
-            removeEmitter(sessionId, emitter);
+            removeEmitter(sessionId, connection);
         });
 
         // 초기 연결 확인 메시지 전송
@@ -42,7 +167,46 @@ public class SSEManager {
                 .data("{\"message\":\"Connected to session\",\"sessionId\":\"" + sessionId + "\"}"));
         } catch (IOException e) {
             logger.error("Failed to send initial SSE message for session: {}", sessionId, e);
-            removeEmitter(sessionId, emitter);
+            return emitter;
+        }
+
+        Long resumeAfter = parseEventId(lastEventId);
+        SseReplayBuffer buffer = replayBufferFor(sessionId);
+
+        // 재전송과 등록을 전송 잠금 안에서 처리해 그 사이에 도착한 이벤트가 빠지거나 순서가 바뀌지 않게 함
+        // (등록 전이라 이 연결에 쓰는 스레드는 요청 스레드뿐 - 등록 이후 전송은 모두 연결 큐를 거침)
+        synchronized (buffer) {
+            if (resumeAfter != null) {
+                List<SseFrame> missed = buffer.framesAfter(resumeAfter);
+                try {
+                    for (SseFrame frame : missed) {
+                        frame.writeTo(emitter);
+                    }
+                } catch (IOException e) {
+                    logger.warn("Failed to replay SSE events for session: {}", sessionId, e);
+                    return emitter;
+                }
+                logger.info("Replayed {} SSE events after id {} for session: {}", missed.size(), resumeAfter, sessionId);
+            }
+
+            ReadingProgressRegistry.Progress progress = progressRegistry.find(sessionId);
+            if (progress != null && (resumeAfter == null || progress.isFinal())) {
+                try {
+                    snapshotFrame(progress).writeTo(emitter);
+                } catch (IOException e) {
+                    logger.warn("Failed to send SSE snapshot for session: {}", sessionId, e);
+                    return emitter;
+                }
+                if (progress.isFinal()) {
+                    // 더 보낼 이벤트가 없으므로 연결을 잡아두지 않음
+                    emitter.complete();
+                    logger.info("Session {} already {}, SSE stream closed after snapshot", sessionId, progress.getStatus());
+                    return emitter;
+                }
+            }
+
+            // 세션별 연결 목록에 추가
+            sessionEmitters.computeIfAbsent(sessionId, k -> new CopyOnWriteArrayList<>()).add(connection);
         }
 
         logger.info("SSE connection added for session: {}", sessionId);
@@ -52,43 +216,280 @@ public class SSEManager {
     /**
      * SSE 연결 제거
      */
-    private void removeEmitter(String sessionId, SseEmitter emitter) {
-        CopyOnWriteArrayList<SseEmitter> emitters = sessionEmitters.get(sessionId);
+    private void removeEmitter(String sessionId, SseConnection connection) {
+        connection.markClosed();
+        CopyOnWriteArrayList<SseConnection> emitters = sessionEmitters.get(sessionId);
         if (emitters != null) {
-            emitters.remove(emitter);
+            emitters.remove(connection);
             if (emitters.isEmpty()) {
-                sessionEmitters.remove(sessionId);
+                sessionEmitters.remove(sessionId, emitters);
             }
         }
         logger.info("SSE connection removed for session: {}", sessionId);
     }
 
+    /**
+     * writer 스레드에서 쓰기 실패 - 끊긴 연결이므로 비동기 요청을 끝내서 Tomcat 슬롯 반환
+     */
+    private void onWriteFailure(SseConnection connection, Exception e) {
+        logger.warn("Failed to send SSE event to session: {}, removing connection", connection.getSessionId(), e);
+        removeEmitter(connection.getSessionId(), connection);
+        connection.getEmitter().completeWithError(e);
+        deadEmittersReaped.increment();
+    }
+
+    /**
+     * 쓰기가 멈춘 연결 정리 - 비동기 요청을 오류로 끝내 Tomcat이 소켓을 닫으면 막혀 있던 쓰기도 실패로 풀림
+     */
+    private void onWriteStalled(SseConnection connection) {
+        logger.warn("SSE write stalled for over {}ms, closing connection for session: {}",
+                Duration.ofNanos(writeTimeoutNanos).toMillis(), connection.getSessionId());
+        removeEmitter(connection.getSessionId(), connection);
+        connection.getEmitter().completeWithError(new IOException("SSE write timed out"));
+        stalledEmittersReaped.increment();
+    }
+
+    /**
+     * 모든 연결에 한 번에 heartbeat 전송
+     * - 주석 ping을 써서 프록시 유휴 타임아웃을 막고, 끊긴 소켓은 쓰기 실패로 일찍 감지해 정리
+     *   (쓰기는 연결별 writer가 하므로 스케줄러 스레드는 소켓에서 막히지 않음, 실패 처리는 onWriteFailure)
+     * - 최종 상태(COMPLETED / FAILED)에 도달한 세션의 연결은 남은 이벤트를 보낸 뒤 종료해서 Tomcat 비동기 슬롯 반환
+     * - 프레임 하나를 sse.write-timeout-ms 넘게 쓰고 있는 연결은 끊음 (클라이언트는 Last-Event-ID로 재연결해 이어받음)
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval-ms:15000}",
+               initialDelayString = "${sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        int finished = 0;
+        long now = System.nanoTime();
+
+        for (Map.Entry<String, CopyOnWriteArrayList<SseConnection>> entry : sessionEmitters.entrySet()) {
+            String sessionId = entry.getKey();
+            CopyOnWriteArrayList<SseConnection> emitters = entry.getValue();
+            ReadingProgressRegistry.Progress progress = progressRegistry.find(sessionId);
+            boolean sessionFinished = progress != null && progress.isFinal();
+
+            for (SseConnection connection : emitters) {
+                if (connection.isWriteStalled(now, writeTimeoutNanos)) {
+                    onWriteStalled(connection);
+                } else if (sessionFinished) {
+                    emitters.remove(connection);
+                    connection.completeWhenDrained();
+                    finished++;
+                } else {
+                    connection.offerHeartbeat(HEARTBEAT);
+                }
+            }
+
+            if (emitters.isEmpty()) {
+                sessionEmitters.remove(sessionId, emitters);
+            }
+        }
+
+        // 리액티브 구독자는 최종 이벤트에서 이미 닫히므로 ping만 보냄 (끊긴 연결은 Netty가 감지해 구독 해제)
+        for (String sessionId : reactiveSubscribers.sessionIds()) {
+            SseReplayBuffer buffer = replayBufferFor(sessionId);
+            synchronized (buffer) {
+                reactiveSubscribers.ping(sessionId, REACTIVE_HEARTBEAT);
+            }
+        }
+
+        finishedEmittersReaped.increment(finished);
+        if (finished > 0) {
+            logger.info("SSE heartbeat closed {} connections of finished sessions, {} still open",
+                    finished, getOpenEmitterCount());
+        }
+    }
+
+    /**
+     * 이 노드에 열려 있는 SSE 연결 수
+     */
+    public int getOpenEmitterCount() {
+        int count = 0;
+        for (CopyOnWriteArrayList<SseConnection> emitters : sessionEmitters.values()) {
+            count += emitters.size();
+        }
+        return count;
+    }
+
     /**
      * 특정 세션에 이벤트 전송
+     * 이벤트 ID를 붙여 버스에 발행하고, 세션의 emitter를 가진 노드가 deliver()에서 실제로 전송
      */
     public void sendEvent(String sessionId, String eventType, Object data) {
-        CopyOnWriteArrayList<SseEmitter> emitters = sessionEmitters.get(sessionId);
-        if (emitters == null || emitters.isEmpty()) {
-            logger.debug("No SSE connections for session: {}", sessionId);
-            return;
-        }
-
-        String jsonData = convertToJson(data);
-
-        // 연결된 모든 클라이언트에게 전송
-        emitters.removeIf(emitter -> {
-            try {
-                emitter.send(SseEmitter.event()
-                    .name(eventType)
-                    .data(jsonData));
-                return false; // 성공적으로 전송됨
-            } catch (IOException e) {
-                logger.warn("Failed to send SSE event to session: {}, removing connection", sessionId, e);
-                return true; // 실패한 연결 제거
+        long id = nextEventId(sessionId);
+        eventBus.publish(new SessionEvent(sessionId, id, eventType, toJsonBytes(data)));
+
+        if (TERMINAL_EVENTS.contains(eventType)) {
+            eventSequences.invalidate(sessionId);
+        }
+    }
+
+    /**
+     * 세션 안에서 계속 커지는 이벤트 ID - max(마지막 ID + 1, 현재 시각 기반 하한)
+     * 재시작 / 다른 노드가 리딩을 이어받음 / 캐시 만료로 마지막 ID를 잊어도 시각 기반 하한이 이전 ID보다 크므로,
+     * 재연결한 클라이언트의 Last-Event-ID보다 작은 ID로 다시 시작하지 않음
+     * (이어받기는 lease 만료 후에 일어나므로 노드 간 시계 차이가 lease 시간보다 작으면 충분)
+     */
+    private long nextEventId(String sessionId) {
+        AtomicLong last = eventSequences.asMap().computeIfAbsent(sessionId, k -> new AtomicLong());
+        long floor = System.currentTimeMillis() * EVENT_IDS_PER_MILLI;
+        return last.updateAndGet(previous -> Math.max(previous + 1, floor));
+    }
+
+    /**
+     * 버스에서 받은 이벤트를 이 노드에 연결된 클라이언트에게 전송
+     */
+    void deliver(SessionEvent event) {
+        String sessionId = event.getSessionId();
+        String eventType = event.getEventType();
+
+        // 한 번만 직렬화한 프레임을 재전송 버퍼와 연결된 모든 클라이언트에 같이 사용
+        SseFrame frame = SseFrame.of(event.getId(), eventType, event.getData());
+        SseReplayBuffer buffer = replayBufferFor(sessionId);
+
+        synchronized (buffer) {
+            progressRegistry.record(event);
+
+            // 토큰 조각은 card_interpreted 완성본으로 대체되므로 보관하지 않음
+            if (!EVENT_CARD_DELTA.equals(eventType)) {
+                buffer.append(event, frame);
             }
+
+            CopyOnWriteArrayList<SseConnection> emitters = sessionEmitters.get(sessionId);
+            if (emitters == null || emitters.isEmpty()) {
+                logger.debug("No SSE connections for session: {}", sessionId);
+            } else {
+                // 큐에 넣기만 하고 반환 - 소켓 쓰기는 연결별 writer가 처리
+                SseConnection.Delivery delivery = deliveryFor(eventType);
+                for (SseConnection connection : emitters) {
+                    SseConnection.Offer offer = connection.offer(frame, delivery);
+                    if (offer == SseConnection.Offer.DROPPED && delivery == SseConnection.Delivery.DROPPABLE) {
+                        deltasDropped.increment();
+                    } else if (offer == SseConnection.Offer.COALESCED) {
+                        statusesCoalesced.increment();
+                    }
+                }
+                logger.debug("SSE event queued for session: {}, type: {}, id: {}", sessionId, eventType, event.getId());
+            }
+
+            if (reactiveSubscribers.hasSubscribers(sessionId)) {
+                reactiveSubscribers.emit(sessionId, toServerSentEvent(event),
+                        deliveryFor(eventType) != SseConnection.Delivery.CRITICAL,
+                        TERMINAL_EVENTS.contains(eventType));
+            }
+        }
+
+        // 최종 상태에 도달하면 더 이어받을 이벤트가 없으므로 버퍼 해제 (이후 결과는 /result로 조회)
+        if (TERMINAL_EVENTS.contains(eventType)) {
+            replayBuffers.invalidate(sessionId);
+        }
+    }
+
+    private boolean wantsEvent(String sessionId, String eventType) {
+        return !EVENT_CARD_DELTA.equals(eventType)
+                || sessionEmitters.containsKey(sessionId)
+                || reactiveSubscribers.hasSubscribers(sessionId);
+    }
+
+    /**
+     * 리액티브 엔드포인트용 구독 (SseEmitter 대신 Flux)
+     * connected → (재연결이면 놓친 이벤트 / 새 구독이면 snapshot) → 실시간 이벤트 순서로, 서블릿 엔드포인트와 이벤트 이름이 같음
+     * 세션이 이미 최종 상태면 snapshot 후 바로 완료
+     */
+    public Flux<ServerSentEvent<String>> subscribeReactive(String sessionId, String lastEventId) {
+        return Flux.defer(() -> {
+            List<ServerSentEvent<String>> initial = new ArrayList<>();
+            initial.add(ServerSentEvent.<String>builder()
+                    .event("connected")
+                    .data("{\"message\":\"Connected to session\",\"sessionId\":\"" + sessionId + "\"}")
+                    .build());
+
+            Long resumeAfter = parseEventId(lastEventId);
+            SseReplayBuffer buffer = replayBufferFor(sessionId);
+            Sinks.Many<ServerSentEvent<String>> sink;
+
+            synchronized (buffer) {
+                if (resumeAfter != null) {
+                    for (SessionEvent missed : buffer.eventsAfter(resumeAfter)) {
+                        initial.add(toServerSentEvent(missed));
+                    }
+                }
+
+                ReadingProgressRegistry.Progress progress = progressRegistry.find(sessionId);
+                if (progress != null && (resumeAfter == null || progress.isFinal())) {
+                    initial.add(snapshotEvent(progress));
+                    if (progress.isFinal()) {
+                        return Flux.fromIterable(initial);
+                    }
+                }
+
+                sink = reactiveSubscribers.register(sessionId);
+            }
+
+            logger.info("Reactive SSE subscriber added for session: {}", sessionId);
+            return Flux.concat(Flux.fromIterable(initial), sink.asFlux())
+                    .doFinally(signal -> reactiveSubscribers.unregister(sessionId, sink));
         });
+    }
 
-        logger.debug("SSE event sent to session: {}, type: {}", sessionId, eventType);
+    private static ServerSentEvent<String> toServerSentEvent(SessionEvent event) {
+        return ServerSentEvent.<String>builder()
+                .id(Long.toString(event.getId()))
+                .event(event.getEventType())
+                .data(new String(event.getData(), StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private static SseConnection.Delivery deliveryFor(String eventType) {
+        if (EVENT_STATUS_CHANGED.equals(eventType) || EVENT_QUEUED.equals(eventType)) {
+            return SseConnection.Delivery.COALESCE;
+        }
+        if (EVENT_CARD_DELTA.equals(eventType)) {
+            return SseConnection.Delivery.DROPPABLE;
+        }
+        return SseConnection.Delivery.CRITICAL;
+    }
+
+    /**
+     * 진행 상태 snapshot 프레임 (마지막 이벤트 ID를 붙여 이후 재연결이 이어지도록 함)
+     */
+    private SseFrame snapshotFrame(ReadingProgressRegistry.Progress progress) {
+        byte[] data = toJsonBytes(toSnapshot(progress));
+        long lastEventId = progress.getLastEventId();
+        return lastEventId > 0 ? SseFrame.of(lastEventId, "snapshot", data) : SseFrame.of("snapshot", data);
+    }
+
+    private ServerSentEvent<String> snapshotEvent(ReadingProgressRegistry.Progress progress) {
+        ServerSentEvent.Builder<String> builder = ServerSentEvent.<String>builder()
+                .event("snapshot")
+                .data(new String(toJsonBytes(toSnapshot(progress)), StandardCharsets.UTF_8));
+        long lastEventId = progress.getLastEventId();
+        if (lastEventId > 0) {
+            builder.id(Long.toString(lastEventId));
+        }
+        return builder.build();
+    }
+
+    private static SnapshotEvent toSnapshot(ReadingProgressRegistry.Progress progress) {
+        return new SnapshotEvent(progress.getStatus(), progress.getProgress(),
+                progress.getInterpretations(), progress.getSummary(),
+                progress.getQueuePosition(), progress.getEstimatedWaitSeconds());
+    }
+
+    private SseReplayBuffer replayBufferFor(String sessionId) {
+        return replayBuffers.asMap().computeIfAbsent(sessionId, k -> new SseReplayBuffer(replayBufferSize));
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            logger.debug("Ignoring non-numeric Last-Event-ID: {}", lastEventId);
+            return null;
+        }
     }
 
     /**
@@ -96,25 +497,51 @@ public class SSEManager {
      */
     public void sendStatusEvent(String sessionId, String status, String message, Integer progress) {
         StatusEvent event = new StatusEvent(status, message, progress);
-        sendEvent(sessionId, "status_changed", event);
+        sendEvent(sessionId, EVENT_STATUS_CHANGED, event);
+    }
+
+    /**
+     * 대기열 위치 이벤트 전송 (처리가 시작되면 status_changed가 이어짐)
+     */
+    public void sendQueuedEvent(String sessionId, int position, int estimatedWaitSeconds) {
+        QueuedEvent event = new QueuedEvent(position, estimatedWaitSeconds);
+        sendEvent(sessionId, EVENT_QUEUED, event);
     }
 
     /**
-     * 카드 해석 완료 이벤트 전송
+     * 카드 해석 완료 이벤트 전송 (status / progress는 이 이벤트 이후의 처리 상태, 별도 status_changed 없음)
      */
-    public void sendCardInterpretedEvent(String sessionId, int position, String interpretation) {
-        CardInterpretedEvent event = new CardInterpretedEvent(position, interpretation);
+    public void sendCardInterpretedEvent(String sessionId, int position, String interpretation,
+                                         String status, Integer progress) {
+        CardInterpretedEvent event = new CardInterpretedEvent(position, interpretation, status, progress);
         sendEvent(sessionId, "card_interpreted", event);
     }
 
     /**
-     * 총평 생성 완료 이벤트 전송
+     * 카드 해석 스트리밍 조각 전송 (완성본은 card_interpreted로 별도 전송)
+     */
+    public void sendCardDeltaEvent(String sessionId, int position, String delta) {
+        CardDeltaEvent event = new CardDeltaEvent(position, delta);
+        sendEvent(sessionId, EVENT_CARD_DELTA, event);
+    }
+
+    /**
+     * 총평 생성 완료 이벤트 전송 (status / progress는 이 이벤트 이후의 처리 상태)
      */
-    public void sendSummaryEvent(String sessionId, String summary) {
-        SummaryEvent event = new SummaryEvent(summary);
+    public void sendSummaryEvent(String sessionId, String summary, String status, Integer progress) {
+        SummaryEvent event = new SummaryEvent(summary, status, progress);
         sendEvent(sessionId, "summary_generated", event);
     }
 
+    /**
+     * AI 업스트림 일시 중단 알림 - 리딩은 계속되고 해당 단계만 기본 해석으로 대체 (error와 달리 스트림을 끝내지 않음)
+     */
+    public void sendUpstreamUnavailableEvent(String sessionId, String upstream, Integer position,
+                                             long retryAfterSeconds) {
+        UpstreamUnavailableEvent event = new UpstreamUnavailableEvent(upstream, position, retryAfterSeconds);
+        sendEvent(sessionId, EVENT_UPSTREAM_UNAVAILABLE, event);
+    }
+
     /**
      * 이미지 생성 완료 이벤트 전송
      */
@@ -140,20 +567,18 @@ public class SSEManager {
     }
 
     /**
-     * 간단한 JSON 변환
+     * 이벤트 데이터를 UTF-8 JSON 바이트로 변환 (공유 ObjectWriter 사용)
      */
-    private String convertToJson(Object data) {
-        if (data instanceof String) {
-            return (String) data;
+    private byte[] toJsonBytes(Object data) {
+        if (data instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
         }
 
-        // 간단한 JSON 직렬화 (실제로는 Jackson ObjectMapper 사용 권장)
         try {
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            return mapper.writeValueAsString(data);
+            return jsonWriter.writeValueAsBytes(data);
         } catch (Exception e) {
             logger.error("Failed to convert object to JSON", e);
-            return "{\"error\":\"Failed to serialize data\"}";
+            return "{\"error\":\"Failed to serialize data\"}".getBytes(StandardCharsets.UTF_8);
         }
     }
 
@@ -170,21 +595,88 @@ public class SSEManager {
         }
     }
 
+    public static class SnapshotEvent {
+        public String status;
+        public Integer progress;
+        public Map<Integer, String> interpretations;
+        public String summary;
+        public Integer queuePosition;
+        public Integer estimatedWaitSeconds;
+
+        public SnapshotEvent(String status, Integer progress, Map<Integer, String> interpretations, String summary,
+                             Integer queuePosition, Integer estimatedWaitSeconds) {
+            this.status = status;
+            this.progress = progress;
+            this.interpretations = interpretations;
+            this.summary = summary;
+            this.queuePosition = queuePosition;
+            this.estimatedWaitSeconds = estimatedWaitSeconds;
+        }
+    }
+
+    public static class QueuedEvent {
+        public int position;
+        public int estimatedWaitSeconds;
+        public String message;
+
+        public QueuedEvent(int position, int estimatedWaitSeconds) {
+            this.position = position;
+            this.estimatedWaitSeconds = estimatedWaitSeconds;
+            this.message = "대기 중입니다 (" + position + "번째)";
+        }
+    }
+
     public static class CardInterpretedEvent {
         public int position;
         public String interpretation;
+        public String status;
+        public Integer progress;
 
         public CardInterpretedEvent(int position, String interpretation) {
+            this(position, interpretation, null, null);
+        }
+
+        public CardInterpretedEvent(int position, String interpretation, String status, Integer progress) {
             this.position = position;
             this.interpretation = interpretation;
+            this.status = status;
+            this.progress = progress;
+        }
+    }
+
+    public static class CardDeltaEvent {
+        public int position;
+        public String delta;
+
+        public CardDeltaEvent(int position, String delta) {
+            this.position = position;
+            this.delta = delta;
         }
     }
 
     public static class SummaryEvent {
         public String summary;
+        public String status;
+        public Integer progress;
 
-        public SummaryEvent(String summary) {
+        public SummaryEvent(String summary, String status, Integer progress) {
             this.summary = summary;
+            this.status = status;
+            this.progress = progress;
+        }
+    }
+
+    public static class UpstreamUnavailableEvent {
+        public String upstream;
+        public Integer position;
+        public long retryAfterSeconds;
+        public String message;
+
+        public UpstreamUnavailableEvent(String upstream, Integer position, long retryAfterSeconds) {
+            this.upstream = upstream;
+            this.position = position;
+            this.retryAfterSeconds = retryAfterSeconds;
+            this.message = "AI 응답이 원활하지 않아 기본 해석으로 대신합니다";
         }
     }
 
@@ -0,0 +1,168 @@
+package org.com.taro.service;
+
+import org.com.taro.constants.ValidationConstants;
+import org.com.taro.exception.SessionIdUnavailableException;
+import org.com.taro.exception.TaroServiceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Time + node + sequence session ID generator
+ * (초 단위 시각, 노드 ID, 초당 시퀀스)를 하나의 숫자로 묶어 7자리 base-36 문자열로 인코딩
+ *
+ * - 같은 노드 ID를 가진 인스턴스가 동시에 두 개 뜨지 않는 한 구조적으로 중복이 없음
+ *   (taro.node-id 미설정이면 0 - 여러 노드가 같은 ID를 쓰게 되므로 sse.event-bus=redis면 기동 실패)
+ * - 초당 시퀀스를 다 쓰면 다음 초를 미리 당겨 씀 (시계가 되돌아가도 단조 증가)
+ *   단, 현재 시각보다 max-borrow-seconds 넘게 앞서가지 않음 - 넘으면 기다리지 않고 SessionIdUnavailableException (503)
+ * - 기동 시 max-borrow-seconds 뒤의 초부터 시작 - 재시작 전 프로세스가 당겨 쓴 초와 겹치지 않음
+ * - 초당 슬롯 수(max-nodes x sequence-per-second)는 늘리기만 해야 함 - 줄이면 이전에 발급한 숫자 범위와 겹침
+ *   기본 8 x 64 = 초당 512개 → 36^7 공간은 기준 시각부터 약 4.8년 (기동 시 소진 예정 시각을 로그로 남김)
+ * - 곱셈 순열로 섞어서 연속된 세션 ID가 순서대로 보이지 않게 함 (역변환 가능한 1:1 매핑)
+ */
+@Component
+public class SequenceSessionIdGenerator implements SessionIdGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SequenceSessionIdGenerator.class);
+
+    // 2025-10-01T00:00:00Z 기준
+    private static final long EPOCH_SECONDS = Instant.parse("2025-10-01T00:00:00Z").getEpochSecond();
+
+    private static final String ALPHABET = ValidationConstants.SESSION_ID_CHARS;
+    private static final int RADIX = ALPHABET.length();
+    private static final int LENGTH = ValidationConstants.SESSION_ID_LENGTH;
+    private static final long ID_SPACE = pow(RADIX, LENGTH); // 36^7
+
+    // ID_SPACE(2^14 * 3^14)와 서로소인 홀수, 3의 배수 아님 - raw * MULTIPLIER가 long 범위를 넘지 않는 크기
+    private static final long MULTIPLIER = 48_271_423L;
+    private static final long OFFSET = 13_477_913_183L;
+
+    private static final int UNSET_NODE_ID = -1;
+
+    private final int nodeId;
+    private final int maxNodes;
+    private final int sequencePerSecond;
+    private final int maxBorrowSeconds;
+    private final LongSupplier epochSeconds;
+
+    // 가상 스레드가 잠금을 기다려도 캐리어 스레드를 잡지 않도록 synchronized 대신 사용 (잠금 안에서는 대기하지 않음)
+    private final ReentrantLock lock = new ReentrantLock();
+    private long lastTick;
+    private int sequence;
+
+    // 생성자가 두 개라 주입에 쓸 생성자를 지정
+    @Autowired
+    public SequenceSessionIdGenerator(@Value("${taro.node-id:" + UNSET_NODE_ID + "}") int nodeId,
+                                      @Value("${sse.event-bus:local}") String eventBus,
+                                      @Value("${taro.session-id.max-nodes:8}") int maxNodes,
+                                      @Value("${taro.session-id.sequence-per-second:64}") int sequencePerSecond,
+                                      @Value("${taro.session-id.max-borrow-seconds:60}") int maxBorrowSeconds) {
+        this(resolveNodeId(nodeId, eventBus), maxNodes, sequencePerSecond, maxBorrowSeconds,
+                () -> Instant.now().getEpochSecond());
+    }
+
+    SequenceSessionIdGenerator(int nodeId, int maxNodes, int sequencePerSecond, int maxBorrowSeconds,
+                               LongSupplier epochSeconds) {
+        if (maxNodes <= 0 || sequencePerSecond <= 0) {
+            throw new IllegalArgumentException("maxNodes and sequencePerSecond must be positive");
+        }
+        if (maxBorrowSeconds < 0) {
+            throw new IllegalArgumentException("taro.session-id.max-borrow-seconds must not be negative: "
+                    + maxBorrowSeconds);
+        }
+        if (nodeId < 0 || nodeId >= maxNodes) {
+            throw new IllegalArgumentException("taro.node-id must be in [0, " + maxNodes + "): " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.maxNodes = maxNodes;
+        this.sequencePerSecond = sequencePerSecond;
+        this.maxBorrowSeconds = maxBorrowSeconds;
+        this.epochSeconds = epochSeconds;
+        // 이전 프로세스는 (마지막 발급 시각 + maxBorrowSeconds)초까지만 썼으므로 그 다음부터 시작
+        // (재시작에는 1초 이상 걸리므로 이전 프로세스의 마지막 발급 시각 < 지금)
+        this.lastTick = currentTick() + maxBorrowSeconds;
+        this.sequence = -1;
+
+        Instant exhaustedAt = Instant.ofEpochSecond(EPOCH_SECONDS + ID_SPACE / ((long) maxNodes * sequencePerSecond));
+        logger.info("Session ID generator - node {}/{}, {} IDs per second, ID space lasts until {}",
+                nodeId, maxNodes, sequencePerSecond, exhaustedAt);
+    }
+
+    /**
+     * 단일 노드(local 버스)는 노드 ID를 생략해도 0으로 동작, 다중 노드(redis 버스)는 노드마다 명시해야 함
+     */
+    private static int resolveNodeId(int nodeId, String eventBus) {
+        if (nodeId != UNSET_NODE_ID) {
+            return nodeId;
+        }
+        if ("redis".equalsIgnoreCase(eventBus)) {
+            throw new IllegalStateException("taro.node-id must be set to a distinct value on every node "
+                    + "when sse.event-bus=redis (nodes sharing an id issue the same session IDs)");
+        }
+        return 0;
+    }
+
+    @Override
+    public String nextId() {
+        long raw = nextRaw();
+        long scrambled = Math.floorMod(raw * MULTIPLIER + OFFSET, ID_SPACE);
+        return encode(scrambled);
+    }
+
+    private long nextRaw() {
+        lock.lock();
+        try {
+            long tick = Math.max(currentTick(), lastTick);
+            if (tick == lastTick) {
+                sequence++;
+                if (sequence >= sequencePerSecond) {
+                    // 이번 초의 시퀀스 소진 - 다음 초를 당겨 씀 (상한을 넘으면 시퀀스를 되돌리고 바로 거절)
+                    if (tick + 1 > currentTick() + maxBorrowSeconds) {
+                        sequence = sequencePerSecond - 1;
+                        throw new SessionIdUnavailableException(sequencePerSecond, 1);
+                    }
+                    tick++;
+                    sequence = 0;
+                }
+            } else {
+                sequence = 0;
+            }
+            lastTick = tick;
+
+            long raw = (tick * maxNodes + nodeId) * sequencePerSecond + sequence;
+            if (raw >= ID_SPACE) {
+                throw new TaroServiceException("Session ID space exhausted for " + LENGTH + " characters");
+            }
+            return raw;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long currentTick() {
+        return Math.max(0, epochSeconds.getAsLong() - EPOCH_SECONDS);
+    }
+
+    private static String encode(long value) {
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt((int) (value % RADIX));
+            value /= RADIX;
+        }
+        return new String(chars);
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+package org.com.taro.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.BiPredicate;
+
+/**
+ * SSE event as it travels over the event bus
+ * data는 이미 직렬화된 UTF-8 JSON이라 수신 노드는 다시 직렬화하지 않고 프레임만 만듦
+ */
+public final class SessionEvent {
+
+    private static final char SEPARATOR = '\n';
+
+    private final String sessionId;
+    private final long id;
+    private final String eventType;
+    private final byte[] data;
+
+    /**
+     * @param id 세션 안에서 단조 증가하는 이벤트 ID (발행 시점에 부여)
+     */
+    public SessionEvent(String sessionId, long id, String eventType, byte[] data) {
+        this.sessionId = sessionId;
+        this.id = id;
+        this.eventType = eventType;
+        this.data = data;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * 브로커 전송용 인코딩: "sessionId\nid\neventType\ndata"
+     * (세션 ID, 이벤트 ID, 이벤트 이름에는 줄바꿈이 없으므로 앞의 세 줄만 잘라내면 됨)
+     */
+    public String encode() {
+        return sessionId + SEPARATOR + id + SEPARATOR + eventType + SEPARATOR
+                + new String(data, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 브로커에서 받은 바이트 그대로 디코딩 - 앞의 세 줄(세션 ID, 이벤트 ID, 이벤트 이름)만 읽고 data는 잘라내기만 함
+     * accepts(sessionId, eventType)가 false면 data를 복사하지 않고 null 반환
+     */
+    public static SessionEvent decode(byte[] message, BiPredicate<String, String> accepts) {
+        int first = indexOf(message, 0);
+        int second = first < 0 ? -1 : indexOf(message, first + 1);
+        int third = second < 0 ? -1 : indexOf(message, second + 1);
+        if (third < 0) {
+            throw new IllegalArgumentException("Malformed SSE bus message");
+        }
+        String sessionId = new String(message, 0, first, StandardCharsets.UTF_8);
+        String eventType = new String(message, second + 1, third - second - 1, StandardCharsets.UTF_8);
+        if (!accepts.test(sessionId, eventType)) {
+            return null;
+        }
+        try {
+            return new SessionEvent(
+                    sessionId,
+                    Long.parseLong(new String(message, first + 1, second - first - 1, StandardCharsets.US_ASCII)),
+                    eventType,
+                    Arrays.copyOfRange(message, third + 1, message.length));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed SSE bus message id", e);
+        }
+    }
+
+    // 구분자는 1바이트 ASCII라 UTF-8 바이트에서 바로 찾아도 됨
+    private static int indexOf(byte[] message, int from) {
+        for (int i = from; i < message.length; i++) {
+            if (message[i] == SEPARATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
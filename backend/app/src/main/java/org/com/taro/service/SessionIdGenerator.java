@@ -0,0 +1,13 @@
+package org.com.taro.service;
+
+/**
+ * Session ID generation strategy
+ * 세션 ID 생성 전략 - 구현체는 DB 조회 없이 유일성을 보장해야 함
+ */
+public interface SessionIdGenerator {
+
+    /**
+     * 새로운 세션 ID를 생성합니다.
+     */
+    String nextId();
+}
@@ -0,0 +1,200 @@
+package org.com.taro.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+/**
+ * One SSE client connection with its own bounded outbound queue
+ * 이벤트를 보내는 스레드(AI 워커, 버스 리스너)는 큐에 넣기만 하고, 실제 소켓 쓰기는 writer 스레드가 처리
+ * → 느린 클라이언트가 있어도 AI 파이프라인은 소켓 I/O에서 막히지 않음
+ * writer는 연결마다 가상 스레드 하나 (sseWriterExecutor) - 멈춘 클라이언트는 자기 스레드만 붙잡고,
+ * 한 프레임을 너무 오래 쓰고 있으면 SSEManager heartbeat가 연결을 끊음 (isWriteStalled)
+ *
+ * 큐가 찼을 때 정책 (Delivery)
+ * - COALESCE: status_changed - 아직 못 보낸 이전 상태는 버리고 최신 상태만 큐 끝에 둠
+ * - DROPPABLE: card_delta - 큐가 차 있으면 버림 (card_interpreted 완성본이 뒤따름)
+ * - CRITICAL: card_interpreted / summary_generated / completed 등 - 버리지 않음
+ *   (큐가 차 있으면 대기 중인 DROPPABLE을 먼저 밀어내고, 그래도 차 있으면 용량을 넘겨서라도 보관)
+ */
+final class SseConnection {
+
+    enum Delivery { COALESCE, DROPPABLE, CRITICAL }
+
+    enum Offer { QUEUED, COALESCED, DROPPED }
+
+    private final String sessionId;
+    private final SseEmitter emitter;
+    private final Executor writer;
+    private final int capacity;
+    private final BiConsumer<SseConnection, Exception> onWriteFailure;
+
+    private final Deque<Pending> queue = new ArrayDeque<>();
+    private boolean draining;
+    private boolean completeWhenDrained;
+    private volatile boolean closed;
+    // 지금 쓰고 있는 프레임의 시작 시각 (쓰는 중이 아니면 0) - 멈춘 연결 감지용
+    private volatile long writeStartedNanos;
+
+    SseConnection(String sessionId, SseEmitter emitter, Executor writer, int capacity,
+                  BiConsumer<SseConnection, Exception> onWriteFailure) {
+        this.sessionId = sessionId;
+        this.emitter = emitter;
+        this.writer = writer;
+        this.capacity = capacity;
+        this.onWriteFailure = onWriteFailure;
+    }
+
+    /**
+     * 프레임을 큐에 넣고 writer가 돌고 있지 않으면 시작 (호출 스레드는 I/O를 하지 않음)
+     */
+    Offer offer(SseFrame frame, Delivery delivery) {
+        Offer result = Offer.QUEUED;
+        synchronized (this) {
+            if (closed || completeWhenDrained) {
+                return Offer.DROPPED;
+            }
+            if (delivery == Delivery.COALESCE) {
+                if (queue.removeIf(pending -> pending.delivery == Delivery.COALESCE)) {
+                    result = Offer.COALESCED;
+                }
+            } else if (queue.size() >= capacity) {
+                if (delivery == Delivery.DROPPABLE) {
+                    return Offer.DROPPED;
+                }
+                dropOldestDroppable();
+            }
+            queue.addLast(new Pending(frame, delivery));
+            if (!startDraining()) {
+                return result;
+            }
+        }
+        writer.execute(this::drain);
+        return result;
+    }
+
+    /**
+     * 보낼 것이 없을 때만 heartbeat를 넣음 (쓰는 중이면 이미 연결이 살아 있는지 확인되는 중)
+     */
+    void offerHeartbeat(SseFrame heartbeat) {
+        synchronized (this) {
+            if (closed || completeWhenDrained || draining || !queue.isEmpty()) {
+                return;
+            }
+            queue.addLast(new Pending(heartbeat, Delivery.DROPPABLE));
+            startDraining();
+        }
+        writer.execute(this::drain);
+    }
+
+    /**
+     * 큐에 남은 프레임을 모두 보낸 뒤 연결 종료 (completed 이벤트가 잘리지 않도록)
+     */
+    void completeWhenDrained() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            completeWhenDrained = true;
+            if (!startDraining()) {
+                return;
+            }
+        }
+        writer.execute(this::drain);
+    }
+
+    /**
+     * 연결이 이미 끝났을 때 (완료/타임아웃/오류 콜백) - 남은 프레임은 버림
+     */
+    void markClosed() {
+        synchronized (this) {
+            closed = true;
+            queue.clear();
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * 프레임 하나를 timeoutNanos 넘게 쓰고 있으면 true (클라이언트가 읽지 않아 소켓 버퍼가 찬 상태)
+     */
+    boolean isWriteStalled(long nowNanos, long timeoutNanos) {
+        long started = writeStartedNanos;
+        return started != 0 && nowNanos - started > timeoutNanos;
+    }
+
+    String getSessionId() {
+        return sessionId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    private void drain() {
+        while (true) {
+            Pending next;
+            synchronized (this) {
+                next = closed ? null : queue.pollFirst();
+                if (next == null) {
+                    draining = false;
+                    if (completeWhenDrained && !closed) {
+                        closed = true;
+                        emitter.complete();
+                    }
+                    return;
+                }
+            }
+
+            writeStartedNanos = System.nanoTime();
+            try {
+                next.frame.writeTo(emitter);
+            } catch (IOException | IllegalStateException e) {
+                writeStartedNanos = 0;
+                markClosed();
+                synchronized (this) {
+                    draining = false;
+                }
+                onWriteFailure.accept(this, e);
+                return;
+            }
+            writeStartedNanos = 0;
+        }
+    }
+
+    // 호출자가 this 잠금을 잡은 상태여야 함 - 새로 writer를 시작해야 하면 true
+    private boolean startDraining() {
+        if (draining) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+
+    private void dropOldestDroppable() {
+        Iterator<Pending> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().delivery == Delivery.DROPPABLE) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    private static final class Pending {
+        private final SseFrame frame;
+        private final Delivery delivery;
+
+        private Pending(SseFrame frame, Delivery delivery) {
+            this.frame = frame;
+            this.delivery = delivery;
+        }
+    }
+}
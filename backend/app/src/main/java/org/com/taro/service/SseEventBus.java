@@ -0,0 +1,33 @@
+package org.com.taro.service;
+
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * Fan-out channel between SSE event producers and the node holding the emitters
+ * 이벤트를 보내는 노드(AI 처리)와 브라우저 연결을 가진 노드가 다를 수 있으므로
+ * SSEManager는 이벤트를 버스에 발행하고, 버스가 각 노드의 구독자에게 전달
+ *
+ * - local (기본값): 같은 JVM 안에서 바로 전달
+ * - redis: Redis pub/sub으로 모든 노드에 전달 (sse.event-bus=redis)
+ */
+public interface SseEventBus {
+
+    /**
+     * 이벤트 발행 (구독 중인 모든 노드에 전달됨, 발행 순서는 노드별로 유지)
+     */
+    void publish(SessionEvent event);
+
+    /**
+     * 이 노드로 들어오는 이벤트 수신 등록
+     */
+    default void subscribe(Consumer<SessionEvent> listener) {
+        subscribe(listener, (sessionId, eventType) -> true);
+    }
+
+    /**
+     * 이 노드로 들어오는 이벤트 중 accepts(sessionId, eventType)를 만족하는 것만 수신
+     * (redis 버스는 본문을 디코딩하기 전에 걸러내므로, 이 노드와 관계없는 card_delta 등을 싸게 버릴 수 있음)
+     */
+    void subscribe(Consumer<SessionEvent> listener, BiPredicate<String, String> accepts);
+}
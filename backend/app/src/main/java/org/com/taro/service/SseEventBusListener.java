@@ -0,0 +1,26 @@
+package org.com.taro.service;
+
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * Event bus subscriber with its session/event-type filter (SseEventBus 구현체 공용)
+ */
+final class SseEventBusListener {
+
+    private final Consumer<SessionEvent> listener;
+    private final BiPredicate<String, String> accepts;
+
+    SseEventBusListener(Consumer<SessionEvent> listener, BiPredicate<String, String> accepts) {
+        this.listener = listener;
+        this.accepts = accepts;
+    }
+
+    boolean accepts(String sessionId, String eventType) {
+        return accepts.test(sessionId, eventType);
+    }
+
+    void accept(SessionEvent event) {
+        listener.accept(event);
+    }
+}
@@ -0,0 +1,108 @@
+package org.com.taro.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Pre-encoded SSE frame
+ * "id:"/"event:"/"data:" 줄을 한 번만 바이트로 인코딩해두고 같은 버퍼를 세션의 모든 emitter에 그대로 씀
+ * (emitter마다 이벤트를 다시 빌드/인코딩하지 않음, 인스턴스는 불변이라 스레드 간 공유 가능)
+ */
+public final class SseFrame {
+
+    private static final byte[] ID_PREFIX = "id:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_PREFIX = "event:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA_PREFIX = "data:".getBytes(StandardCharsets.UTF_8);
+
+    private final String eventName;
+    private final byte[] bytes;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> parts;
+
+    private SseFrame(String eventName, byte[] bytes) {
+        this.eventName = eventName;
+        this.bytes = bytes;
+        this.parts = Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, MediaType.TEXT_EVENT_STREAM));
+    }
+
+    /**
+     * @param data UTF-8 데이터 (보통 한 줄짜리 JSON, 줄바꿈이 있으면 줄마다 "data:"를 붙임)
+     */
+    public static SseFrame of(String eventName, byte[] data) {
+        return encode(null, eventName, data);
+    }
+
+    /**
+     * "id:" 줄 포함 (브라우저가 재연결 시 Last-Event-ID 헤더로 돌려보냄)
+     */
+    public static SseFrame of(long id, String eventName, byte[] data) {
+        return encode(Long.toString(id).getBytes(StandardCharsets.UTF_8), eventName, data);
+    }
+
+    /**
+     * 주석 줄 (":text") - 브라우저는 무시하므로 연결 유지 / 끊긴 소켓 감지용 ping으로 사용
+     */
+    public static SseFrame comment(String text) {
+        return new SseFrame("", (":" + text + "\n\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static SseFrame encode(byte[] id, String eventName, byte[] data) {
+        byte[] name = eventName.getBytes(StandardCharsets.UTF_8);
+        int lineBreaks = 0;
+        for (byte b : data) {
+            if (b == '\n') {
+                lineBreaks++;
+            }
+        }
+
+        int idLength = id == null ? 0 : ID_PREFIX.length + id.length + 1;
+        byte[] frame = new byte[idLength + EVENT_PREFIX.length + name.length + 1
+                + DATA_PREFIX.length * (lineBreaks + 1) + data.length + 2];
+
+        int offset = 0;
+        if (id != null) {
+            offset = append(frame, offset, ID_PREFIX);
+            offset = append(frame, offset, id);
+            frame[offset++] = '\n';
+        }
+        offset = append(frame, offset, EVENT_PREFIX);
+        offset = append(frame, offset, name);
+        frame[offset++] = '\n';
+        offset = append(frame, offset, DATA_PREFIX);
+        if (lineBreaks == 0) {
+            offset = append(frame, offset, data);
+        } else {
+            for (byte b : data) {
+                frame[offset++] = b;
+                if (b == '\n') {
+                    offset = append(frame, offset, DATA_PREFIX);
+                }
+            }
+        }
+        frame[offset++] = '\n';
+        frame[offset] = '\n';
+
+        return new SseFrame(eventName, frame);
+    }
+
+    public void writeTo(SseEmitter emitter) throws IOException {
+        emitter.send(parts);
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    private static int append(byte[] target, int offset, byte[] source) {
+        System.arraycopy(source, 0, target, offset, source.length);
+        return offset + source.length;
+    }
+}
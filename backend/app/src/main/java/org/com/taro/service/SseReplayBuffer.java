@@ -0,0 +1,63 @@
+package org.com.taro.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded per-session ring buffer of recently delivered SSE frames
+ * 재연결한 클라이언트가 Last-Event-ID 이후에 놓친 이벤트만 다시 받을 수 있도록 보관
+ * (용량을 넘으면 가장 오래된 프레임부터 덮어씀)
+ *
+ * SSEManager가 세션 단위 전송 순서를 맞추는 잠금 객체로도 사용
+ */
+final class SseReplayBuffer {
+
+    private final SessionEvent[] events;
+    private final SseFrame[] frames;
+    private int next;
+    private int size;
+
+    SseReplayBuffer(int capacity) {
+        this.events = new SessionEvent[capacity];
+        this.frames = new SseFrame[capacity];
+    }
+
+    synchronized void append(SessionEvent event, SseFrame frame) {
+        events[next] = event;
+        frames[next] = frame;
+        next = (next + 1) % frames.length;
+        if (size < frames.length) {
+            size++;
+        }
+    }
+
+    /**
+     * lastEventId보다 뒤에 보낸 프레임을 보낸 순서대로 반환
+     */
+    synchronized List<SseFrame> framesAfter(long lastEventId) {
+        List<SseFrame> missed = new ArrayList<>();
+        int start = (next - size + frames.length) % frames.length;
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % frames.length;
+            if (events[index].getId() > lastEventId) {
+                missed.add(frames[index]);
+            }
+        }
+        return missed;
+    }
+
+    /**
+     * lastEventId보다 뒤에 보낸 이벤트 (리액티브 스트림 재전송용 - 프레임 대신 원본 이벤트)
+     */
+    synchronized List<SessionEvent> eventsAfter(long lastEventId) {
+        List<SessionEvent> missed = new ArrayList<>();
+        int start = (next - size + events.length) % events.length;
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % events.length;
+            if (events[index].getId() > lastEventId) {
+                missed.add(events[index]);
+            }
+        }
+        return missed;
+    }
+}
@@ -0,0 +1,182 @@
+package org.com.taro.service;
+
+import jakarta.annotation.PostConstruct;
+import org.com.taro.entity.TaroCardEntity;
+import org.com.taro.exception.TaroServiceException;
+import org.com.taro.repository.TaroCardRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-memory tarot deck loaded once from taro_cards
+ * 타로 카드 78장을 메모리에 올려두고 카드 뽑기를 DB 조회 없이 처리하는 카탈로그
+ */
+@Service
+public class TaroCardCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaroCardCatalog.class);
+
+    private final TaroCardRepository taroCardRepository;
+
+    // 불변 스냅샷 - 갱신 시 참조만 교체
+    private volatile Deck deck = Deck.EMPTY;
+
+    public TaroCardCatalog(TaroCardRepository taroCardRepository) {
+        this.taroCardRepository = taroCardRepository;
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // DB가 아직 준비되지 않았으면 첫 사용 시 다시 로드
+            logger.warn("Failed to load tarot deck at startup, will retry lazily: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 카드 데이터 변경 반영을 위한 주기적 갱신
+     */
+    @Scheduled(fixedDelayString = "${taro.deck.refresh-interval-ms:600000}",
+               initialDelayString = "${taro.deck.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.warn("Failed to refresh tarot deck, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 카드 전체를 다시 읽어 스냅샷 교체
+     */
+    public void refresh() {
+        List<TaroCardEntity> entities = taroCardRepository.findAll();
+        List<Card> cards = new ArrayList<>(entities.size());
+        for (TaroCardEntity entity : entities) {
+            cards.add(new Card(entity));
+        }
+        this.deck = new Deck(cards);
+        logger.info("Tarot deck loaded - {} cards", cards.size());
+    }
+
+    /**
+     * 중복 없이 카드 count장 뽑기 (부분 Fisher-Yates 셔플)
+     */
+    public List<Card> draw(int count) {
+        Deck current = currentDeck();
+        List<Card> cards = current.cards;
+        int size = cards.size();
+        if (size < count) {
+            throw new TaroServiceException("Not enough cards in deck: " + size);
+        }
+
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Card> drawn = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(size - i);
+            int picked = indexes[j];
+            indexes[j] = indexes[i];
+            indexes[i] = picked;
+            drawn.add(cards.get(picked));
+        }
+        return drawn;
+    }
+
+    /**
+     * 카드 PK(taro_cards.id)로 조회
+     */
+    public Optional<Card> findById(Integer id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(currentDeck().byId.get(id));
+    }
+
+    public List<Card> getAllCards() {
+        return currentDeck().cards;
+    }
+
+    private Deck currentDeck() {
+        Deck current = deck;
+        if (current.cards.isEmpty()) {
+            synchronized (this) {
+                if (deck.cards.isEmpty()) {
+                    refresh();
+                }
+                current = deck;
+            }
+        }
+        return current;
+    }
+
+    private static final class Deck {
+        static final Deck EMPTY = new Deck(List.of());
+
+        final List<Card> cards;
+        final Map<Integer, Card> byId;
+
+        Deck(List<Card> cards) {
+            this.cards = Collections.unmodifiableList(cards);
+            Map<Integer, Card> index = new HashMap<>();
+            for (Card card : cards) {
+                index.put(card.getId(), card);
+            }
+            this.byId = Collections.unmodifiableMap(index);
+        }
+    }
+
+    /**
+     * 카드 정보 불변 스냅샷
+     */
+    public static final class Card {
+        private final Integer id;
+        private final String nameKo;
+        private final String nameEn;
+        private final String videoUrl;
+        private final String meaningUpright;
+        private final String meaningReversed;
+
+        Card(TaroCardEntity entity) {
+            this.id = entity.getId();
+            this.nameKo = entity.getNameKo();
+            this.nameEn = entity.getNameEn();
+            this.videoUrl = entity.getVideoUrl();
+            this.meaningUpright = entity.getMeaningUpright();
+            this.meaningReversed = entity.getMeaningReversed();
+        }
+
+        public Card(Integer id, String nameKo, String nameEn, String videoUrl,
+                    String meaningUpright, String meaningReversed) {
+            this.id = id;
+            this.nameKo = nameKo;
+            this.nameEn = nameEn;
+            this.videoUrl = videoUrl;
+            this.meaningUpright = meaningUpright;
+            this.meaningReversed = meaningReversed;
+        }
+
+        public Integer getId() { return id; }
+        public String getNameKo() { return nameKo; }
+        public String getNameEn() { return nameEn; }
+        public String getVideoUrl() { return videoUrl; }
+        public String getMeaningUpright() { return meaningUpright; }
+        public String getMeaningReversed() { return meaningReversed; }
+    }
+}
@@ -7,15 +7,20 @@ import org.com.taro.exception.SessionNotFoundException;
 import org.com.taro.exception.TaroServiceException;
 import org.com.taro.constants.ValidationConstants;
 import org.com.taro.enums.CardOrientation;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @Transactional
 public class TaroServiceImpl implements TaroService {
 
+    private static final int MAX_SESSION_ID_ATTEMPTS = 3;
+
     private final TaroSessionRepository taroSessionRepository;
     private final TaroCardRepository taroCardRepository;
     private final CategoryRepository categoryRepository;
@@ -24,6 +29,10 @@ public class TaroServiceImpl implements TaroService {
     private final TaroReadingRepository taroReadingRepository;
     private final DrawnCardRepository drawnCardRepository;
     private final ReferenceDataService referenceDataService;
+    private final TaroCardCatalog taroCardCatalog;
+    private final SessionCreationRepository sessionCreationRepository;
+    private final SessionIdGenerator sessionIdGenerator;
+    private final ReadingProgressRegistry progressRegistry;
 
     public TaroServiceImpl(TaroSessionRepository taroSessionRepository,
                           TaroCardRepository taroCardRepository,
@@ -33,7 +42,11 @@ public class TaroServiceImpl implements TaroService {
                           TaroReadingRepository taroReadingRepository,
                           DrawnCardRepository drawnCardRepository,
                           TopicSampleQuestionRepository topicSampleQuestionRepository,
-                          ReferenceDataService referenceDataService) {
+                          ReferenceDataService referenceDataService,
+                          TaroCardCatalog taroCardCatalog,
+                          SessionCreationRepository sessionCreationRepository,
+                          SessionIdGenerator sessionIdGenerator,
+                          ReadingProgressRegistry progressRegistry) {
         this.taroSessionRepository = taroSessionRepository;
         this.taroCardRepository = taroCardRepository;
         this.categoryRepository = categoryRepository;
@@ -42,91 +55,56 @@ public class TaroServiceImpl implements TaroService {
         this.taroReadingRepository = taroReadingRepository;
         this.drawnCardRepository = drawnCardRepository;
         this.referenceDataService = referenceDataService;
+        this.taroCardCatalog = taroCardCatalog;
+        this.sessionCreationRepository = sessionCreationRepository;
+        this.sessionIdGenerator = sessionIdGenerator;
+        this.progressRegistry = progressRegistry;
     }
 
+    /**
+     * 트랜잭션 없이 시작 - 카드 선택과 ID 발급은 DB 연결 없이 하고, insert만 자체 트랜잭션으로 실행
+     * (중복 ID로 실패한 insert도 그 시도의 트랜잭션만 롤백)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String createSession(String nickname) {
-        String sessionId = generateSessionId();
-
-        // 1. 세션 생성
-        TaroSession session = new TaroSession();
-        session.setSessionId(sessionId);
-        session.setNickname(nickname);
-        session.setStatus(TaroSession.SessionStatus.ACTIVE);
-        session.setProcessingStatus(TaroSession.ProcessingStatus.CREATED);
-        taroSessionRepository.save(session);
-
-        // 2. 빈 TaroReading 레코드 생성 (나중에 submit 시 업데이트)
-        TaroReading taroReading = new TaroReading();
-        taroReading.setSessionId(sessionId);
-        taroReading.setCategoryCode(null);  // Submit 시 설정
-        taroReading.setTopicCode(null);     // Submit 시 설정
-        taroReading.setQuestionText(null);  // Submit 시 설정
-        taroReading.setReaderType(null);    // Submit 시 설정
-        taroReading = taroReadingRepository.save(taroReading);
-
-        // 3. 랜덤 카드 3장 선택하여 drawn_cards에 저장
-        try {
-            List<TaroCardEntity> allCards = taroCardRepository.findRandomCards(78);
-            if (allCards.size() < 3) {
-                throw new TaroServiceException("Not enough cards in database");
-            }
-
-            Random random = new Random();
-            Set<Integer> usedCardIds = new HashSet<>();
-
-            for (int position = 1; position <= 3; position++) {
-                TaroCardEntity selectedCard;
-                do {
-                    selectedCard = allCards.get(random.nextInt(allCards.size()));
-                } while (usedCardIds.contains(selectedCard.getId()));
-
-                usedCardIds.add(selectedCard.getId());
-
-                // 랜덤 방향 결정
-                DrawnCard.Orientation orientation = random.nextBoolean() ?
-                    DrawnCard.Orientation.upright : DrawnCard.Orientation.reversed;
-
-                // drawn_cards 테이블에 저장
-                DrawnCard drawnCard = new DrawnCard();
-                drawnCard.setReadingId(taroReading.getId());
-                drawnCard.setPosition(position);
-                drawnCard.setCardId(selectedCard.getId());
-                drawnCard.setOrientation(orientation);
-                drawnCardRepository.save(drawnCard);
+        // 1. 메모리 덱에서 랜덤 카드 3장 선택
+        List<DrawnCard> drawnCards = drawCards();
+
+        // 2. 세션(CARDS_GENERATED 상태로 바로 생성) + 빈 TaroReading + drawn_cards 배치 insert
+        //    카테고리/주제/질문/리더는 submit 시 설정
+        for (int attempt = 1; ; attempt++) {
+            String sessionId = sessionIdGenerator.nextId();
+            try {
+                sessionCreationRepository.insertSessionWithCards(sessionId, nickname,
+                    TaroSession.ProcessingStatus.CARDS_GENERATED, drawnCards);
+                return sessionId;
+            } catch (DuplicateKeyException e) {
+                // 예전 랜덤 방식으로 발급된 ID와 겹친 경우 - 첫 insert에서 실패하므로 다음 ID로 재시도
+                if (attempt >= MAX_SESSION_ID_ATTEMPTS) {
+                    throw new TaroServiceException("Failed to create session: duplicate session ID " + sessionId, e);
+                }
+            } catch (Exception e) {
+                throw new TaroServiceException("Failed to create cards for session: " + sessionId, e);
             }
-
-            // 카드 생성 완료 상태 업데이트
-            session.setProcessingStatus(TaroSession.ProcessingStatus.CARDS_GENERATED);
-            taroSessionRepository.save(session);
-
-        } catch (Exception e) {
-            throw new TaroServiceException("Failed to create cards for session: " + sessionId, e);
         }
-
-        return sessionId;
     }
 
-    private String generateSessionId() {
-        Random random = new Random();
-        StringBuilder sessionId = new StringBuilder();
-        int attempts = 0;
-        final int maxAttempts = 1000;
-
-        do {
-            sessionId.setLength(0);
-            for (int i = 0; i < ValidationConstants.SESSION_ID_LENGTH; i++) {
-                sessionId.append(ValidationConstants.SESSION_ID_CHARS.charAt(
-                    random.nextInt(ValidationConstants.SESSION_ID_CHARS.length())));
-            }
-            attempts++;
+    private List<DrawnCard> drawCards() {
+        List<TaroCardCatalog.Card> selectedCards = taroCardCatalog.draw(ValidationConstants.REQUIRED_CARD_COUNT);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
 
-            if (attempts > maxAttempts) {
-                throw new TaroServiceException("Unable to generate unique session ID after " + maxAttempts + " attempts");
-            }
-        } while (taroSessionRepository.existsById(sessionId.toString()));
+        List<DrawnCard> drawnCards = new ArrayList<>(selectedCards.size());
+        for (int position = 1; position <= selectedCards.size(); position++) {
+            TaroCardCatalog.Card selectedCard = selectedCards.get(position - 1);
 
-        return sessionId.toString();
+            // 랜덤 방향 결정
+            DrawnCard.Orientation orientation = random.nextBoolean() ?
+                DrawnCard.Orientation.upright : DrawnCard.Orientation.reversed;
+
+            drawnCards.add(new DrawnCard(null, position, selectedCard.getId(), orientation));
+        }
+        return drawnCards;
     }
 
     @Override
@@ -193,6 +171,12 @@ public class TaroServiceImpl implements TaroService {
             taroReading.setQuestionText(questionText);
             taroReading.setReaderType(readerType);
 
+            // 이전 제출의 해석 제거 (재시작 후 이어서 처리할 때 저장된 해석은 다시 생성하지 않으므로)
+            taroReading.setPastInterpretation(null);
+            taroReading.setPresentInterpretation(null);
+            taroReading.setFutureInterpretation(null);
+            taroReading.setInterpretation(null);
+
             // 랜덤 행운 카드 선택 (1-30)
             Integer luckyCardId = referenceDataService.selectRandomLuckyCardId();
             taroReading.setLuckyCardId(luckyCardId);
@@ -222,43 +206,19 @@ public class TaroServiceImpl implements TaroService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TaroReadingResponse generateTaroReading(String sessionId) {
-        TaroSession session = taroSessionRepository.findById(sessionId)
+        // 세션 + TaroReading + drawn_cards를 한 번의 fetch join으로 조회
+        TaroReading taroReading = taroReadingRepository.findBySessionIdWithDrawnCards(sessionId)
             .orElseThrow(() -> new SessionNotFoundException(sessionId));
 
         try {
-            // 세션에 대한 TaroReading 찾기
-            TaroReading taroReading = taroReadingRepository.findBySessionId(sessionId)
-                .stream().findFirst()
-                .orElseThrow(() -> new TaroServiceException("TaroReading not found for session: " + sessionId));
-
-            // 저장된 drawn_cards 조회
-            List<DrawnCard> drawnCards = drawnCardRepository.findByReadingIdOrderByPosition(taroReading.getId());
-            if (drawnCards.size() != 3) {
+            List<DrawnCard> drawnCards = taroReading.getDrawnCards();
+            if (drawnCards.size() != ValidationConstants.REQUIRED_CARD_COUNT) {
                 throw new TaroServiceException("Expected 3 cards, but found " + drawnCards.size() + " for session: " + sessionId);
             }
 
-            // DrawnCard를 TaroReadingResponse.DrawnCard로 변환
-            List<TaroReadingResponse.DrawnCard> responseCards = new ArrayList<>();
-            for (DrawnCard drawnCard : drawnCards) {
-                // 카드 정보 조회
-                TaroCardEntity cardEntity = taroCardRepository.findById(Long.valueOf(drawnCard.getCardId()))
-                    .orElseThrow(() -> new TaroServiceException("Card not found: " + drawnCard.getCardId()));
-
-                String orientation = drawnCard.getOrientation() == DrawnCard.Orientation.upright ?
-                    CardOrientation.UPRIGHT.getCode() : CardOrientation.REVERSED.getCode();
-
-                responseCards.add(new TaroReadingResponse.DrawnCard(
-                    drawnCard.getPosition(),
-                    cardEntity.getId(),
-                    cardEntity.getNameKo(),
-                    cardEntity.getNameEn(),
-                    orientation,
-                    cardEntity.getVideoUrl()
-                ));
-            }
-
-            return new TaroReadingResponse(sessionId, responseCards);
+            return new TaroReadingResponse(sessionId, toResponseCards(drawnCards));
         } catch (Exception e) {
             throw new TaroServiceException("Failed to retrieve tarot reading for session: " + sessionId, e);
         }
@@ -267,58 +227,54 @@ public class TaroServiceImpl implements TaroService {
     @Override
     @Transactional(readOnly = true)
     public TaroResultResponse getSessionResult(String sessionId) {
-        // 세션 존재 확인
-        TaroSession session = taroSessionRepository.findById(sessionId)
+        // 세션 + TaroReading + drawn_cards + 행운 카드를 한 번의 fetch join으로 조회
+        TaroReading taroReading = taroReadingRepository.findBySessionIdWithDrawnCards(sessionId)
             .orElseThrow(() -> new SessionNotFoundException(sessionId));
-
-        // TaroReading 조회
-        TaroReading taroReading = taroReadingRepository.findBySessionId(sessionId)
-            .stream().findFirst()
-            .orElseThrow(() -> new TaroServiceException("TaroReading not found for session: " + sessionId));
+        TaroSession session = taroReading.getSession();
 
         // 처리 상태 확인
         String status = session.getProcessingStatus().toString();
+        String past = taroReading.getPastInterpretation();
+        String present = taroReading.getPresentInterpretation();
+        String future = taroReading.getFutureInterpretation();
+        String summary = taroReading.getInterpretation();
+
+        // 처리 중이면 DB에는 체크포인트까지만 있으므로 SSE 이벤트로 모인 진행 상태로 보완
+        ReadingProgressRegistry.Progress live = org.com.taro.enums.ProcessingStatus.isFinalStatus(status)
+            ? null : progressRegistry.find(sessionId);
+        if (live != null) {
+            if (org.com.taro.enums.ProcessingStatus.isActiveProcessingStatus(live.getStatus())) {
+                status = live.getStatus();
+            }
+            Map<Integer, String> liveInterpretations = live.getInterpretations();
+            past = past != null ? past : liveInterpretations.get(1);
+            present = present != null ? present : liveInterpretations.get(2);
+            future = future != null ? future : liveInterpretations.get(3);
+            summary = summary != null ? summary : live.getSummary();
+        }
 
         // 해석 결과 구성
         TaroResultResponse.InterpretationsDto interpretations = new TaroResultResponse.InterpretationsDto(
-            taroReading.getPastInterpretation(),
-            taroReading.getPresentInterpretation(),
-            taroReading.getFutureInterpretation(),
-            taroReading.getInterpretation() // summary
+            past,
+            present,
+            future,
+            summary
         );
 
         // 행운 카드 구성
         TaroResultResponse.LuckyCardDto luckyCard = null;
-        if (taroReading.getLuckyCardId() != null) {
-            luckyCard = referenceDataService.findLuckyCardById(taroReading.getLuckyCardId())
-                .map(card -> new TaroResultResponse.LuckyCardDto(
-                    card.getName(),
-                    taroReading.getResultImageText() != null ?
-                        taroReading.getResultImageText() : card.getMessage(), // AI 재해석된 메시지가 있으면 사용, 없으면 기본 메시지
-                    card.getImageUrl()
-                ))
-                .orElse(null);
+        LuckyCard card = taroReading.getLuckyCard();
+        if (card != null) {
+            luckyCard = new TaroResultResponse.LuckyCardDto(
+                card.getName(),
+                taroReading.getResultImageText() != null ?
+                    taroReading.getResultImageText() : card.getMessage(), // AI 재해석된 메시지가 있으면 사용, 없으면 기본 메시지
+                card.getImageUrl()
+            );
         }
 
-        // 뽑힌 카드(Predefined/Drawn cards) 포함
-        List<TaroReadingResponse.DrawnCard> responseCards = new ArrayList<>();
-        List<DrawnCard> drawnCards = drawnCardRepository.findByReadingIdOrderByPosition(taroReading.getId());
-        for (DrawnCard drawnCard : drawnCards) {
-            TaroCardEntity cardEntity = taroCardRepository.findById(Long.valueOf(drawnCard.getCardId()))
-                    .orElseThrow(() -> new TaroServiceException("Card not found: " + drawnCard.getCardId()));
-
-            String orientation = drawnCard.getOrientation() == DrawnCard.Orientation.upright ?
-                    CardOrientation.UPRIGHT.getCode() : CardOrientation.REVERSED.getCode();
-
-            responseCards.add(new TaroReadingResponse.DrawnCard(
-                    drawnCard.getPosition(),
-                    cardEntity.getId(),
-                    cardEntity.getNameKo(),
-                    cardEntity.getNameEn(),
-                    orientation,
-                    cardEntity.getVideoUrl()
-            ));
-        }
+        // 뽑힌 카드(Predefined/Drawn cards) 포함 - 카드 정보는 메모리 덱에서 조회
+        List<TaroReadingResponse.DrawnCard> responseCards = toResponseCards(taroReading.getDrawnCards());
 
         return new TaroResultResponse(
             sessionId,
@@ -333,4 +289,31 @@ public class TaroServiceImpl implements TaroService {
         );
     }
 
+    /**
+     * DrawnCard 목록을 응답용 카드 목록으로 변환 (위치 순)
+     */
+    private List<TaroReadingResponse.DrawnCard> toResponseCards(List<DrawnCard> drawnCards) {
+        List<DrawnCard> sortedCards = new ArrayList<>(drawnCards);
+        sortedCards.sort(Comparator.comparing(DrawnCard::getPosition));
+
+        List<TaroReadingResponse.DrawnCard> responseCards = new ArrayList<>(sortedCards.size());
+        for (DrawnCard drawnCard : sortedCards) {
+            TaroCardCatalog.Card card = taroCardCatalog.findById(drawnCard.getCardId())
+                .orElseThrow(() -> new TaroServiceException("Card not found: " + drawnCard.getCardId()));
+
+            String orientation = drawnCard.getOrientation() == DrawnCard.Orientation.upright ?
+                CardOrientation.UPRIGHT.getCode() : CardOrientation.REVERSED.getCode();
+
+            responseCards.add(new TaroReadingResponse.DrawnCard(
+                drawnCard.getPosition(),
+                card.getId(),
+                card.getNameKo(),
+                card.getNameEn(),
+                orientation,
+                card.getVideoUrl()
+            ));
+        }
+        return responseCards;
+    }
+
 }
\ No newline at end of file
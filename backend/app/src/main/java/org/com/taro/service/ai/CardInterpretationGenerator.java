@@ -0,0 +1,170 @@
+package org.com.taro.service.ai;
+
+import org.com.taro.config.OpenAIConfig;
+import org.com.taro.dto.ChatMessage;
+import org.com.taro.entity.CardInterpretation;
+import org.com.taro.entity.DrawnCard;
+import org.com.taro.entity.Reader;
+import org.com.taro.repository.CardInterpretationRepository;
+import org.com.taro.service.ReferenceDataService;
+import org.com.taro.service.TaroCardCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Offline batch that fills card_interpretations
+ * 카드 x 방향 x 시점(1~3) x 리더 타입 조합마다 질문 없는 기본 해석을 한 번씩 생성 (이미 있는 조합은 건너뜀)
+ *
+ * 실행: ai.library.generate=true + spring.main.web-application-type=none 으로 기동
+ * - 끝나면 라이브러리를 다시 읽고, ai.library.exit-after-generate=true(기본)면 종료
+ * - 웹 서버가 떠 있으면 생성하지 않음 (생성 중 받은 리딩이 종료 시 끊기므로). 이 모드에서는 ReadingJobRecovery도 만들어지지 않아
+ *   다른 노드의 작업을 이어받지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "ai.library.generate", havingValue = "true")
+public class CardInterpretationGenerator implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CardInterpretationGenerator.class);
+
+    private static final String[] TIME_FRAMES = {"과거", "현재", "미래"};
+
+    private final TaroCardCatalog taroCardCatalog;
+    private final ReferenceDataService referenceDataService;
+    private final ReaderPersonaService readerPersonaService;
+    private final TaroAiService taroAiService;
+    private final OpenAIClient openAIClient;
+    private final OpenAIConfig openAIConfig;
+    private final CardInterpretationRepository repository;
+    private final CardInterpretationLibrary library;
+    private final ApplicationContext applicationContext;
+    private final boolean mockEnabled;
+    private final int concurrency;
+    private final boolean exitAfterGenerate;
+
+    public CardInterpretationGenerator(TaroCardCatalog taroCardCatalog,
+                                       ReferenceDataService referenceDataService,
+                                       ReaderPersonaService readerPersonaService,
+                                       TaroAiService taroAiService,
+                                       OpenAIClient openAIClient,
+                                       OpenAIConfig openAIConfig,
+                                       CardInterpretationRepository repository,
+                                       CardInterpretationLibrary library,
+                                       ApplicationContext applicationContext,
+                                       @Value("${ai.mock.enabled:false}") boolean mockEnabled,
+                                       @Value("${ai.library.generate-concurrency:4}") int concurrency,
+                                       @Value("${ai.library.exit-after-generate:true}") boolean exitAfterGenerate) {
+        this.taroCardCatalog = taroCardCatalog;
+        this.referenceDataService = referenceDataService;
+        this.readerPersonaService = readerPersonaService;
+        this.taroAiService = taroAiService;
+        this.openAIClient = openAIClient;
+        this.openAIConfig = openAIConfig;
+        this.repository = repository;
+        this.library = library;
+        this.applicationContext = applicationContext;
+        this.mockEnabled = mockEnabled;
+        this.concurrency = concurrency;
+        this.exitAfterGenerate = exitAfterGenerate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (applicationContext instanceof WebServerApplicationContext) {
+            logger.error("기본 해석 생성은 웹 서버 없이 실행해야 합니다 - --spring.main.web-application-type=none 을 함께 지정하세요");
+            finish(1);
+            return;
+        }
+        if (mockEnabled) {
+            // mock 응답이 라이브러리에 들어가면 실제 서비스에서 그대로 노출됨
+            logger.error("ai.mock.enabled=true 상태에서는 기본 해석을 생성하지 않습니다");
+            finish(1);
+            return;
+        }
+
+        List<CardInterpretation> pending = pendingCombinations();
+        logger.info("기본 해석 생성 시작 - 대상: {}개, 동시 요청: {}", pending.size(), concurrency);
+
+        AtomicInteger saved = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        Flux.fromIterable(pending)
+                .flatMap(combination -> generate(combination)
+                        .doOnNext(entity -> {
+                            int done = saved.incrementAndGet();
+                            if (done % 50 == 0) {
+                                logger.info("기본 해석 생성 진행 - {}/{}", done, pending.size());
+                            }
+                        })
+                        .onErrorResume(e -> {
+                            failed.incrementAndGet();
+                            logger.warn("기본 해석 생성 실패 - {}: {}", combination.getId(), e.getMessage());
+                            return Mono.empty();
+                        }), concurrency)
+                .blockLast();
+
+        logger.info("기본 해석 생성 완료 - 저장: {}, 실패: {}", saved.get(), failed.get());
+        library.refresh();
+        finish(failed.get() == 0 ? 0 : 1);
+    }
+
+    /**
+     * 아직 생성되지 않은 조합 (해석 텍스트는 비어 있는 자리표시자)
+     */
+    private List<CardInterpretation> pendingCombinations() {
+        Set<String> existing = new HashSet<>(repository.findAllIds());
+        List<CardInterpretation> pending = new ArrayList<>();
+        for (TaroCardCatalog.Card card : taroCardCatalog.getAllCards()) {
+            for (DrawnCard.Orientation orientation : DrawnCard.Orientation.values()) {
+                for (int position = 1; position <= TIME_FRAMES.length; position++) {
+                    for (Reader reader : referenceDataService.getAllReaders()) {
+                        CardInterpretation combination = new CardInterpretation(card.getId(), orientation,
+                                position, reader.getType(), null, null);
+                        if (!existing.contains(combination.getId())) {
+                            pending.add(combination);
+                        }
+                    }
+                }
+            }
+        }
+        return pending;
+    }
+
+    private Mono<CardInterpretation> generate(CardInterpretation combination) {
+        return Mono.fromCallable(() -> {
+                    TaroCardCatalog.Card card = taroCardCatalog.findById(combination.getCardId())
+                            .orElseThrow(() -> new RuntimeException("Card not found: " + combination.getCardId()));
+                    String timeFrame = TIME_FRAMES[combination.getPosition() - 1];
+                    return List.of(
+                            new ChatMessage("system", readerPersonaService.getSystemPrompt(combination.getReaderType())),
+                            new ChatMessage("user", taroAiService.buildLibraryCardPrompt(card,
+                                    combination.getOrientation(), timeFrame, combination.getReaderType())));
+                })
+                .flatMap(openAIClient::interpretWithConversationAsync)
+                .publishOn(Schedulers.boundedElastic())
+                .map(interpretation -> repository.save(new CardInterpretation(combination.getCardId(),
+                        combination.getOrientation(), combination.getPosition(), combination.getReaderType(),
+                        interpretation, openAIConfig.getModel())));
+    }
+
+    private void finish(int exitCode) {
+        if (exitAfterGenerate) {
+            System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+        }
+    }
+}
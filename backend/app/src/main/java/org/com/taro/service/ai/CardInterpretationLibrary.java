@@ -0,0 +1,106 @@
+package org.com.taro.service.ai;
+
+import jakarta.annotation.PostConstruct;
+import org.com.taro.entity.CardInterpretation;
+import org.com.taro.entity.DrawnCard;
+import org.com.taro.repository.CardInterpretationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory library of pre-generated card interpretations (card_interpretations)
+ * 카드 x 방향 x 시점 x 리더 타입마다 질문과 관계없는 기본 해석을 메모리에 올려두고 사용
+ *
+ * ai.library.mode
+ * - off: 사용하지 않음 (실패 시 기존 고정 문구)
+ * - fallback: 평소에는 그대로 생성하고, 실패하거나 업스트림이 중단되면 기본 해석으로 대체
+ * - personalize: 기본 해석 + 질문에 맞춘 짧은 한두 문장만 생성 (추가 생성이 실패하면 기본 해석만)
+ */
+@Service
+public class CardInterpretationLibrary {
+
+    private static final Logger logger = LoggerFactory.getLogger(CardInterpretationLibrary.class);
+
+    public enum Mode {
+        OFF, FALLBACK, PERSONALIZE
+    }
+
+    private final CardInterpretationRepository repository;
+    private final Mode mode;
+
+    // 불변 스냅샷 - 갱신 시 참조만 교체
+    private volatile Map<String, String> interpretations = Map.of();
+
+    public CardInterpretationLibrary(CardInterpretationRepository repository,
+                                     @Value("${ai.library.mode:fallback}") String mode) {
+        this.repository = repository;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+    }
+
+    @PostConstruct
+    void init() {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 테이블이 아직 없거나 DB가 준비되지 않았으면 주기적 갱신에서 다시 시도
+            logger.warn("Failed to load card interpretation library: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ai.library.refresh-interval-ms:600000}",
+               initialDelayString = "${ai.library.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.warn("Failed to refresh card interpretation library, keeping previous snapshot: {}",
+                    e.getMessage());
+        }
+    }
+
+    public void refresh() {
+        List<CardInterpretation> entities = repository.findAll();
+        Map<String, String> loaded = new HashMap<>(entities.size() * 2);
+        for (CardInterpretation entity : entities) {
+            loaded.put(entity.getId(), entity.getInterpretation());
+        }
+        this.interpretations = Collections.unmodifiableMap(loaded);
+        logger.info("Card interpretation library loaded - {} entries (mode: {})", loaded.size(), mode);
+    }
+
+    /**
+     * 기본 해석 조회 (mode=off거나 생성되지 않은 조합이면 empty)
+     */
+    public Optional<String> find(DrawnCard drawnCard, String readerType) {
+        if (mode == Mode.OFF || drawnCard.getCardId() == null || drawnCard.getOrientation() == null
+                || drawnCard.getPosition() == null || readerType == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(interpretations.get(CardInterpretation.idOf(drawnCard.getCardId(),
+                drawnCard.getOrientation(), drawnCard.getPosition(), readerType)));
+    }
+
+    public boolean isPersonalize() {
+        return mode == Mode.PERSONALIZE;
+    }
+
+    public int size() {
+        return interpretations.size();
+    }
+}
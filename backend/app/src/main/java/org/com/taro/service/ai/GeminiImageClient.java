@@ -8,7 +8,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.com.taro.config.GeminiConfig;
 import org.com.taro.dto.ImageGenerationResult;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.JsonNode;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +21,8 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 public class GeminiImageClient {
@@ -34,6 +36,15 @@ public class GeminiImageClient {
     @Autowired
     private GeminiConfig geminiConfig;
 
+    @Autowired
+    private UpstreamRetryPolicy retryPolicy;
+
+    @Autowired
+    private UpstreamGuards upstreamGuards;
+
+    @Autowired
+    private ObjectReader jsonTreeReader;
+
     @Value("${media.base-url}")
     private String baseUrl;
 
@@ -41,25 +52,47 @@ public class GeminiImageClient {
     private String imagesPath;
 
     public ImageGenerationResult generateImage(String prompt, String sessionId) {
+        return generateImageAsync(prompt, sessionId).block();
+    }
+
+    /**
+     * Generate image without blocking the caller
+     * HTTP 호출은 논블로킹, base64 디코딩과 파일 저장은 boundedElastic에서 수행
+     */
+    public Mono<ImageGenerationResult> generateImageAsync(String prompt, String sessionId) {
+        logger.debug("Gemini image generation started");
+
+        return geminiWebClient
+            .post()
+            .uri("/v1beta/models/{model}:generateContent?key={key}",
+                 geminiConfig.getModel(), geminiConfig.getApiKey())
+            .bodyValue(buildImageRequestBody(prompt))
+            .retrieve()
+            .bodyToMono(String.class)
+            .timeout(Duration.ofSeconds(geminiConfig.getTimeoutSeconds()))
+            .transform(upstreamGuards.gemini().<String>protect())
+            .transform(retryPolicy.<String>forUpstream("gemini"))
+            .switchIfEmpty(Mono.error(() -> new RuntimeException("Gemini API response is empty")))
+            .publishOn(Schedulers.boundedElastic())
+            .map(response -> parseImageResponse(response, sessionId))
+            .onErrorMap(e -> {
+                if (e instanceof WebClientResponseException httpError) {
+                    logger.error("Gemini API HTTP error - Status: {}, Body: {}",
+                        httpError.getStatusCode(), httpError.getResponseBodyAsString());
+                    return new RuntimeException("Gemini API call failed: HTTP " + httpError.getStatusCode(), e);
+                }
+                logger.error("Gemini image generation failed", e);
+                return new RuntimeException("Gemini image generation failed: " + e.getMessage(), e);
+            });
+    }
+
+    private ImageGenerationResult parseImageResponse(String response, String sessionId) {
         try {
-            logger.debug("Gemini image generation started");
-
-            String response = geminiWebClient
-                .post()
-                .uri("/v1beta/models/{model}:generateContent?key={key}",
-                     geminiConfig.getModel(), geminiConfig.getApiKey())
-                .bodyValue(buildImageRequestBody(prompt))
-                .retrieve()
-                .bodyToMono(String.class)
-                .timeout(Duration.ofSeconds(geminiConfig.getTimeoutSeconds()))
-                .block();
-
-            if (response == null || response.trim().isEmpty()) {
+            if (response.trim().isEmpty()) {
                 throw new RuntimeException("Gemini API response is empty");
             }
 
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode jsonNode = mapper.readTree(response);
+            JsonNode jsonNode = jsonTreeReader.readTree(response);
 
             if (!jsonNode.has("candidates") || jsonNode.get("candidates").size() == 0) {
                 throw new RuntimeException("Gemini API response format is invalid");
@@ -96,14 +129,10 @@ public class GeminiImageClient {
                 imageUrl, textDescription != null ? textDescription.substring(0, Math.min(50, textDescription.length())) + "..." : "N/A");
             return new ImageGenerationResult(imageUrl, textDescription);
 
-        } catch (WebClientResponseException e) {
-            logger.error("Gemini API HTTP error - Status: {}, Body: {}",
-                e.getStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("Gemini API call failed: HTTP " + e.getStatusCode(), e);
-
+        } catch (RuntimeException e) {
+            throw e;
         } catch (Exception e) {
-            logger.error("Gemini image generation failed", e);
-            throw new RuntimeException("Gemini image generation failed: " + e.getMessage(), e);
+            throw new RuntimeException(e.getMessage(), e);
         }
     }
 
@@ -1,6 +1,9 @@
 package org.com.taro.service.ai;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
@@ -12,27 +15,46 @@ import org.com.taro.dto.SubmitRequest;
 import org.com.taro.entity.*;
 import org.com.taro.repository.*;
 import org.com.taro.constants.ValidationConstants;
-import org.springframework.retry.annotation.Retryable;
-import org.springframework.retry.annotation.Backoff;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.com.taro.exception.UpstreamUnavailableException;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.JsonNode;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
 public class OpenAIClient {
 
     private static final Logger logger = LoggerFactory.getLogger(OpenAIClient.class);
 
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+        new ParameterizedTypeReference<>() {};
+    private static final String STREAM_DONE = "[DONE]";
+
     @Autowired
     private WebClient webClient;
 
     @Autowired
     private OpenAIConfig openAIConfig;
 
+    // 응답/스트리밍 청크 파싱용 공유 reader
+    @Autowired
+    private ObjectReader jsonTreeReader;
+
+    @Autowired
+    private UpstreamCallLimiter upstreamCallLimiter;
+
+    @Autowired
+    private UpstreamRetryPolicy retryPolicy;
+
+    @Autowired
+    private UpstreamGuards upstreamGuards;
+
     @Autowired
     private MockDataService mockDataService;
 
@@ -56,104 +78,31 @@ public class OpenAIClient {
     /**
      * Interpret individual tarot card - returns plain text
      */
-    @Retryable(
-        value = {Exception.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
     public String interpretCardText(String prompt) {
-        try {
-            logger.debug("OpenAI API 호출 시작");
-
-            // API request
-            String response = webClient
-                .post()
-                .uri("/chat/completions")
-                .bodyValue(buildCardRequestBody(prompt))
-                .retrieve()
-                .bodyToMono(String.class)
-                .timeout(Duration.ofSeconds(openAIConfig.getTimeoutSeconds()))
-                .block();
-
-            if (response == null || response.trim().isEmpty()) {
-                throw new RuntimeException("OpenAI API 응답이 비어있습니다");
-            }
-
-            // Extract content from JSON
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode jsonNode = mapper.readTree(response);
-
-            // Validate response structure
-            if (!jsonNode.has("choices") || jsonNode.get("choices").size() == 0) {
-                throw new RuntimeException("OpenAI API 응답 형식이 올바르지 않습니다");
-            }
-
-            String content = jsonNode.get("choices").get(0).get("message").get("content").asText();
-
-            // Log usage
-            if (jsonNode.has("usage")) {
-                JsonNode usage = jsonNode.get("usage");
-                logger.info("OpenAI API 사용량 - 총 토큰: {}, 프롬프트: {}, 완료: {}",
-                    usage.get("total_tokens").asInt(),
-                    usage.get("prompt_tokens").asInt(),
-                    usage.get("completion_tokens").asInt()
-                );
-            }
-
-            logger.debug("OpenAI API 호출 성공 - 응답 길이: {}", content.length());
-            return content;
-            
-        } catch (WebClientResponseException e) {
-            logger.error("OpenAI API HTTP 에러 - Status: {}, Body: {}",
-                e.getStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("OpenAI API 호출 실패: HTTP " + e.getStatusCode(), e);
+        return interpretCardTextAsync(prompt).block();
+    }
 
-        } catch (Exception e) {
-            logger.error("OpenAI API 호출 중 예외 발생", e);
-            throw new RuntimeException("OpenAI API 호출 실패: " + e.getMessage(), e);
-        }
+    /**
+     * Interpret individual tarot card without blocking the caller
+     */
+    public Mono<String> interpretCardTextAsync(String prompt) {
+        return chatCompletion(buildCardRequestBody(prompt), "OpenAI API")
+            .onErrorMap(e -> new RuntimeException("OpenAI API 호출 실패: " + describe(e), e));
     }
 
     /**
      * Generate summary text from three card interpretations
      */
-    @Retryable(
-        value = {Exception.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
     public String generateSummaryText(String prompt) {
-        try {
-            logger.debug("총평 생성 시작");
-
-            String response = webClient
-                .post()
-                .uri("/chat/completions")
-                .bodyValue(buildCardRequestBody(prompt))
-                .retrieve()
-                .bodyToMono(String.class)
-                .timeout(Duration.ofSeconds(openAIConfig.getTimeoutSeconds()))
-                .block();
-
-            if (response == null || response.trim().isEmpty()) {
-                throw new RuntimeException("OpenAI API 응답이 비어있습니다");
-            }
-
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode jsonNode = mapper.readTree(response);
-
-            if (!jsonNode.has("choices") || jsonNode.get("choices").size() == 0) {
-                throw new RuntimeException("OpenAI API 응답 형식이 올바르지 않습니다");
-            }
-
-            String content = jsonNode.get("choices").get(0).get("message").get("content").asText();
-            logger.debug("총평 생성 성공 - 길이: {}", content.length());
-            return content;
+        return generateSummaryTextAsync(prompt).block();
+    }
 
-        } catch (Exception e) {
-            logger.error("총평 생성 실패", e);
-            throw new RuntimeException("총평 생성 실패: " + e.getMessage(), e);
-        }
+    /**
+     * Generate summary text without blocking the caller
+     */
+    public Mono<String> generateSummaryTextAsync(String prompt) {
+        return chatCompletion(buildCardRequestBody(prompt), "총평 생성")
+            .onErrorMap(e -> new RuntimeException("총평 생성 실패: " + describe(e), e));
     }
 
     /**
@@ -178,14 +127,15 @@ public class OpenAIClient {
                 .retrieve()
                 .bodyToMono(String.class)
                 .timeout(Duration.ofSeconds(60)) // Longer timeout for image generation
+                .transform(upstreamGuards.images().<String>protect())
+                .transform(retryPolicy.<String>forUpstream("images"))
                 .block();
 
             if (response == null || response.trim().isEmpty()) {
                 throw new RuntimeException("DALL-E API 응답이 비어있습니다");
             }
 
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode jsonNode = mapper.readTree(response);
+            JsonNode jsonNode = jsonTreeReader.readTree(response);
 
             if (!jsonNode.has("data") || jsonNode.get("data").size() == 0) {
                 throw new RuntimeException("DALL-E API 응답 형식이 올바르지 않습니다");
@@ -223,58 +173,60 @@ public class OpenAIClient {
     /**
      * New conversation-based interpretation with message history
      */
-    @Retryable(
-        value = {Exception.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
     public String interpretWithConversation(List<ChatMessage> messages) {
-        try {
-            logger.debug("대화 기반 OpenAI API 호출 시작 - 메시지 수: {}", messages.size());
-
-            String response = webClient
-                .post()
-                .uri("/chat/completions")
-                .bodyValue(buildConversationRequestBody(messages))
-                .retrieve()
-                .bodyToMono(String.class)
-                .timeout(Duration.ofSeconds(openAIConfig.getTimeoutSeconds()))
-                .block();
-
-            if (response == null || response.trim().isEmpty()) {
-                throw new RuntimeException("OpenAI API 응답이 비어있습니다");
-            }
-
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode jsonNode = mapper.readTree(response);
-
-            if (!jsonNode.has("choices") || jsonNode.get("choices").size() == 0) {
-                throw new RuntimeException("OpenAI API 응답 형식이 올바르지 않습니다");
-            }
-
-            String content = jsonNode.get("choices").get(0).get("message").get("content").asText();
-
-            // Log usage
-            if (jsonNode.has("usage")) {
-                JsonNode usage = jsonNode.get("usage");
-                logger.info("대화 기반 OpenAI API 사용량 - 총 토큰: {}, 프롬프트: {}, 완료: {}",
-                    usage.get("total_tokens").asInt(),
-                    usage.get("prompt_tokens").asInt(),
-                    usage.get("completion_tokens").asInt()
-                );
-            }
+        return interpretWithConversationAsync(messages).block();
+    }
 
-            logger.debug("대화 기반 OpenAI API 호출 성공 - 응답 길이: {}", content.length());
-            return content;
+    /**
+     * Conversation-based interpretation without blocking the caller
+     */
+    public Mono<String> interpretWithConversationAsync(List<ChatMessage> messages) {
+        logger.debug("대화 기반 OpenAI API 호출 시작 - 메시지 수: {}", messages.size());
+        return chatCompletion(buildConversationRequestBody(messages), "대화 기반 OpenAI API")
+            .onErrorMap(e -> new RuntimeException("OpenAI API 호출 실패: " + describe(e), e));
+    }
 
-        } catch (WebClientResponseException e) {
-            logger.error("대화 기반 OpenAI API HTTP 에러 - Status: {}, Body: {}",
-                e.getStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("OpenAI API 호출 실패: HTTP " + e.getStatusCode(), e);
+    /**
+     * Conversation-based interpretation streamed token by token (stream: true)
+     * 응답의 delta.content 조각만 순서대로 내보냄. 조각 사이가 timeoutSeconds 이상 비면 실패 처리
+     * 재시도하지 않음 - 이미 보낸 조각이 중복되므로, 첫 조각 전 실패는 호출하는 쪽에서 일반 호출(재시도 적용)로 대체
+     */
+    public Flux<String> streamWithConversation(List<ChatMessage> messages) {
+        logger.debug("대화 기반 OpenAI 스트리밍 호출 시작 - 메시지 수: {}", messages.size());
+
+        return webClient
+            .post()
+            .uri("/chat/completions")
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .bodyValue(buildConversationRequestBody(messages, true))
+            .retrieve()
+            .bodyToFlux(SSE_TYPE)
+            .timeout(Duration.ofSeconds(openAIConfig.getTimeoutSeconds()))
+            .map(ServerSentEvent::data)
+            .takeWhile(data -> !STREAM_DONE.equals(data))
+            .map(this::extractDeltaContent)
+            .filter(delta -> !delta.isEmpty())
+            // [DONE]까지 받아야 성공으로 집계되도록 takeWhile 뒤에 적용
+            .transform(upstreamGuards.chat().<String>protectStream())
+            .transform(upstreamCallLimiter.<String>limitStream("chat"))
+            .doOnError(WebClientResponseException.class, e ->
+                logger.error("대화 기반 OpenAI 스트리밍 HTTP 에러 - Status: {}, Body: {}",
+                    e.getStatusCode(), e.getResponseBodyAsString()));
+    }
 
+    /**
+     * 스트리밍 청크에서 choices[0].delta.content 추출 (역할/종료 청크는 빈 문자열)
+     */
+    private String extractDeltaContent(String data) {
+        if (data == null || data.isBlank()) {
+            return "";
+        }
+        try {
+            JsonNode content = jsonTreeReader.readTree(data)
+                .path("choices").path(0).path("delta").path("content");
+            return content.isTextual() ? content.asText() : "";
         } catch (Exception e) {
-            logger.error("대화 기반 OpenAI API 호출 중 예외 발생", e);
-            throw new RuntimeException("OpenAI API 호출 실패: " + e.getMessage(), e);
+            throw new RuntimeException("OpenAI 스트리밍 응답 파싱 실패: " + e.getMessage(), e);
         }
     }
 
@@ -282,6 +234,10 @@ public class OpenAIClient {
      * Build request body for conversation-based API calls
      */
     private Object buildConversationRequestBody(List<ChatMessage> messages) {
+        return buildConversationRequestBody(messages, false);
+    }
+
+    private Object buildConversationRequestBody(List<ChatMessage> messages, boolean stream) {
         // Convert ChatMessage objects to Map format for API
         List<Map<String, String>> apiMessages = messages.stream()
             .map(msg -> Map.of(
@@ -290,56 +246,105 @@ public class OpenAIClient {
             ))
             .toList();
 
-        return Map.of(
-            "model", openAIConfig.getModel(),
-            "messages", apiMessages,
-            "max_tokens", openAIConfig.getMaxTokens()
-        );
+        Map<String, Object> body = new HashMap<>();
+        body.put("model", openAIConfig.getModel());
+        body.put("messages", apiMessages);
+        body.put("max_tokens", openAIConfig.getMaxTokens());
+        if (stream) {
+            body.put("stream", true);
+        }
+        return body;
     }
 
     /**
      * Generate lucky card message reinterpretation
      */
-    @Retryable(
-        value = {Exception.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 1000, multiplier = 2)
-    )
     public String generateLuckyCardMessage(String prompt) {
-        try {
-            logger.debug("행운카드 메시지 재해석 시작");
+        return generateLuckyCardMessageAsync(prompt).block();
+    }
 
-            String response = webClient
-                .post()
-                .uri("/chat/completions")
-                .bodyValue(buildCardRequestBody(prompt))
-                .retrieve()
-                .bodyToMono(String.class)
-                .timeout(Duration.ofSeconds(openAIConfig.getTimeoutSeconds()))
-                .block();
+    /**
+     * Generate lucky card message without blocking the caller
+     */
+    public Mono<String> generateLuckyCardMessageAsync(String prompt) {
+        return chatCompletion(buildCardRequestBody(prompt), "행운카드 메시지 재해석")
+            .onErrorMap(e -> new RuntimeException("행운카드 메시지 재해석 실패: " + describe(e), e));
+    }
 
-            if (response == null || response.trim().isEmpty()) {
-                throw new RuntimeException("OpenAI API 응답이 비어있습니다");
-            }
+    /**
+     * /chat/completions 호출 후 choices[0].message.content 추출
+     * 호출 스레드를 막지 않으며, 구독 시점에 요청이 나감
+     * 429 / 5xx / 타임아웃만 UpstreamRetryPolicy로 재시도 (응답 파싱 실패는 재시도하지 않음)
+     * 회로가 열려 있으면 요청을 보내지 않고 바로 UpstreamUnavailableException
+     * 노드 동시 호출 상한(UpstreamCallLimiter)은 시도마다 적용 - 재시도 대기 중에는 자리를 돌려줌
+     */
+    private Mono<String> chatCompletion(Object requestBody, String label) {
+        return webClient
+            .post()
+            .uri("/chat/completions")
+            .bodyValue(requestBody)
+            .retrieve()
+            .bodyToMono(String.class)
+            .timeout(Duration.ofSeconds(openAIConfig.getTimeoutSeconds()))
+            .transform(upstreamGuards.chat().<String>protect())
+            .transform(upstreamCallLimiter.<String>limit("chat"))
+            .transform(retryPolicy.<String>forUpstream("chat"))
+            .switchIfEmpty(Mono.error(() -> new RuntimeException("OpenAI API 응답이 비어있습니다")))
+            .map(response -> extractMessageContent(response, label))
+            .doOnError(e -> {
+                if (e instanceof WebClientResponseException httpError) {
+                    logger.error("{} HTTP 에러 - Status: {}, Body: {}",
+                        label, httpError.getStatusCode(), httpError.getResponseBodyAsString());
+                } else if (e instanceof UpstreamUnavailableException) {
+                    logger.warn("{} 호출 생략 - {}", label, e.getMessage());
+                } else {
+                    logger.error("{} 호출 중 예외 발생", label, e);
+                }
+            });
+    }
 
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode jsonNode = mapper.readTree(response);
+    private String extractMessageContent(String response, String label) {
+        if (response.trim().isEmpty()) {
+            throw new RuntimeException("OpenAI API 응답이 비어있습니다");
+        }
 
-            if (!jsonNode.has("choices") || jsonNode.get("choices").size() == 0) {
-                throw new RuntimeException("OpenAI API 응답 형식이 올바르지 않습니다");
-            }
+        JsonNode jsonNode;
+        try {
+            jsonNode = jsonTreeReader.readTree(response);
+        } catch (Exception e) {
+            throw new RuntimeException("OpenAI API 응답 파싱 실패: " + e.getMessage(), e);
+        }
+
+        // Validate response structure
+        if (!jsonNode.has("choices") || jsonNode.get("choices").size() == 0) {
+            throw new RuntimeException("OpenAI API 응답 형식이 올바르지 않습니다");
+        }
 
-            String content = jsonNode.get("choices").get(0).get("message").get("content").asText();
-            logger.debug("행운카드 메시지 재해석 성공 - 길이: {}", content.length());
-            return content;
+        String content = jsonNode.get("choices").get(0).get("message").get("content").asText();
 
-        } catch (Exception e) {
-            logger.error("행운카드 메시지 재해석 실패", e);
-            throw new RuntimeException("행운카드 메시지 재해석 실패: " + e.getMessage(), e);
+        // Log usage
+        if (jsonNode.has("usage")) {
+            JsonNode usage = jsonNode.get("usage");
+            logger.info("{} 사용량 - 총 토큰: {}, 프롬프트: {}, 완료: {}",
+                label,
+                usage.path("total_tokens").asInt(),
+                usage.path("prompt_tokens").asInt(),
+                usage.path("completion_tokens").asInt()
+            );
+        }
+
+        logger.debug("{} 호출 성공 - 응답 길이: {}", label, content.length());
+        return content;
+    }
+
+    private static String describe(Throwable e) {
+        if (e instanceof WebClientResponseException httpError) {
+            return "HTTP " + httpError.getStatusCode();
         }
+        return e.getMessage();
     }
 
     /**
      * Deprecated - This was for the old all-at-once processing approach
      */
-}
\ No newline at end of file
+}
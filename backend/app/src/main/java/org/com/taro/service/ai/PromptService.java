@@ -6,6 +6,7 @@ import org.com.taro.entity.*;
 import org.com.taro.repository.*;
 import org.com.taro.constants.ValidationConstants;
 import org.com.taro.service.ReferenceDataService;
+import org.com.taro.service.TaroCardCatalog;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
@@ -15,7 +16,7 @@ public class PromptService {
 
     private final TaroReadingRepository taroReadingRepository;
     private final DrawnCardRepository drawnCardRepository;
-    private final TaroCardRepository taroCardRepository;
+    private final TaroCardCatalog taroCardCatalog;
     private final CategoryRepository categoryRepository;
     private final TopicRepository topicRepository;
     private final ReaderRepository readerRepository;
@@ -23,14 +24,14 @@ public class PromptService {
 
     public PromptService(TaroReadingRepository taroReadingRepository,
                         DrawnCardRepository drawnCardRepository,
-                        TaroCardRepository taroCardRepository,
+                        TaroCardCatalog taroCardCatalog,
                         CategoryRepository categoryRepository,
                         TopicRepository topicRepository,
                         ReaderRepository readerRepository,
                         ReferenceDataService referenceDataService) {
         this.taroReadingRepository = taroReadingRepository;
         this.drawnCardRepository = drawnCardRepository;
-        this.taroCardRepository = taroCardRepository;
+        this.taroCardCatalog = taroCardCatalog;
         this.categoryRepository = categoryRepository;
         this.topicRepository = topicRepository;
         this.readerRepository = readerRepository;
@@ -172,7 +173,7 @@ public class PromptService {
 
         try {
             // 카드 정보 조회
-            TaroCardEntity cardEntity = taroCardRepository.findById(Long.valueOf(drawnCard.getCardId()))
+            TaroCardCatalog.Card cardEntity = taroCardCatalog.findById(drawnCard.getCardId())
                 .orElseThrow(() -> new RuntimeException("Card not found: " + drawnCard.getCardId()));
 
             // 시스템 지시사항
@@ -257,6 +258,22 @@ public class PromptService {
      */
     public String createLuckyCardPrompt(String summary, String drinkName, String originalLuckyMessage,
                                        SubmitRequest request) {
+        return buildLuckyCardPrompt(summary, drinkName, request);
+    }
+
+    /**
+     * 럭키 음료카드 메시지 프롬프트 - 총평 대신 세 카드 해석을 바탕으로 생성 (총평과 동시에 호출하기 위함)
+     */
+    public String createLuckyCardPromptFromCards(String pastInterpretation, String presentInterpretation,
+                                                 String futureInterpretation, String drinkName,
+                                                 String originalLuckyMessage, SubmitRequest request) {
+        String readingResult = "【과거】\n" + pastInterpretation + "\n\n" +
+                "【현재】\n" + presentInterpretation + "\n\n" +
+                "【미래】\n" + futureInterpretation;
+        return buildLuckyCardPrompt(readingResult, drinkName, request);
+    }
+
+    private String buildLuckyCardPrompt(String readingResult, String drinkName, SubmitRequest request) {
         StringBuilder prompt = new StringBuilder();
 
         // 시스템 지시사항 - 카페 바리스타 컨셉
@@ -272,7 +289,7 @@ public class PromptService {
 
         // 종합 타로 해석 결과
         prompt.append("타로 해석 결과:\n");
-        prompt.append(summary).append("\n\n");
+        prompt.append(readingResult).append("\n\n");
 
         // 선택된 럭키 음료카드 정보
         prompt.append("선택된 럭키 음료: ").append(drinkName).append("\n\n");
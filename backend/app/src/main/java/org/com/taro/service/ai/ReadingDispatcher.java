@@ -0,0 +1,413 @@
+package org.com.taro.service.ai;
+
+import jakarta.annotation.PreDestroy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.com.taro.dto.SubmitRequest;
+import org.com.taro.exception.ReadingQueueFullException;
+import org.com.taro.service.SSEManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entry point for starting AI readings
+ * ai.pipeline.mode에 따라 기존 @Async 처리(async) 또는 논블로킹 파이프라인(reactive)으로 전달
+ *
+ * 두 모드 모두 동시에 진행되는 리딩 수를 제한하고, 초과분은 크기가 제한된 우선순위 대기열에서 기다림
+ * - async: taroTaskExecutor의 최대 스레드 수 (가상 스레드면 ai.pipeline.max-in-flight)
+ * - reactive: ai.pipeline.max-in-flight
+ * 대기열(ai.admission.queue-capacity)까지 차면 요청 스레드에서 기다리지 않고 바로 거절 (503 + Retry-After)
+ * 제출 요청은 DB 기록 전에 reserve()로 자리를 먼저 잡으므로, 제출이 기록된 뒤에 거절되는 일이 없음
+ * 대기 중인 세션에는 들어올 때 queued 이벤트로 대기 순번과 예상 대기 시간을 보내고,
+ * 이후 바뀐 순번은 ai.admission.position-update-interval-ms마다 모아서 순번이 달라진 세션에만 전송
+ *
+ * 받은 리딩은 ai_reading_jobs에 기록하므로 (ReadingJobService) 노드가 재시작되어도 다른 노드가 이어서 처리
+ */
+@Service
+public class ReadingDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadingDispatcher.class);
+
+    public static final String MODE_ASYNC = "async";
+    public static final String MODE_REACTIVE = "reactive";
+
+    // 리딩 한 건 처리 시간 이동 평균의 가중치
+    private static final double READING_TIME_SMOOTHING = 0.2;
+
+    /**
+     * 대기열 우선순위 - 같은 우선순위는 먼저 들어온 순서
+     */
+    public enum Priority {
+        HIGH,   // 노드 재시작 등으로 중단됐다가 이어서 처리하는 리딩 (이미 기다린 적이 있는 요청)
+        NORMAL
+    }
+
+    private final TaroAiService taroAiService;
+    private final SSEManager sseManager;
+    private final ReadingJobService readingJobService;
+    private final String mode;
+    private final int maxInFlight;
+    private final int queueCapacity;
+
+    // 아래 상태는 this 잠금으로 보호
+    private final PriorityQueue<PendingReading> queue = new PriorityQueue<>(
+            Comparator.comparing((PendingReading reading) -> reading.priority)
+                    .thenComparingLong(reading -> reading.sequence));
+    private int inFlight;
+    private int reserved;               // reserve() 후 아직 dispatch / cancel 하지 않은 제출
+    private boolean positionsChanged;   // 마지막 순번 전송 이후 대기열 순서가 바뀜
+
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile double averageReadingSeconds;
+
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public ReadingDispatcher(TaroAiService taroAiService,
+                             SSEManager sseManager,
+                             ReadingJobService readingJobService,
+                             MeterRegistry meterRegistry,
+                             @Qualifier("taroTaskExecutor") Executor taroTaskExecutor,
+                             @Value("${ai.pipeline.mode:async}") String mode,
+                             @Value("${ai.pipeline.max-in-flight:256}") int maxInFlight,
+                             @Value("${ai.admission.queue-capacity:500}") int queueCapacity,
+                             @Value("${ai.admission.initial-reading-seconds:20}") double initialReadingSeconds) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("ai.pipeline.max-in-flight must be positive: " + maxInFlight);
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("ai.admission.queue-capacity must not be negative: " + queueCapacity);
+        }
+        this.taroAiService = taroAiService;
+        this.sseManager = sseManager;
+        this.readingJobService = readingJobService;
+        this.mode = mode.trim().toLowerCase();
+        this.queueCapacity = queueCapacity;
+        this.averageReadingSeconds = initialReadingSeconds;
+
+        // 스레드 풀이면 스레드 수보다 많이 넘겨봐야 풀 안에서 기다릴 뿐이므로 스레드 수로 제한
+        if (!isReactive() && taroTaskExecutor instanceof ThreadPoolTaskExecutor pool) {
+            this.maxInFlight = Math.min(maxInFlight, pool.getMaxPoolSize());
+        } else {
+            this.maxInFlight = maxInFlight;
+        }
+
+        this.queueWaitTimer = Timer.builder("ai.readings.queue.wait")
+                .description("Time readings spend in the admission queue")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("ai.readings.rejected")
+                .description("Readings rejected because the admission queue was full")
+                .register(meterRegistry);
+        Gauge.builder("ai.readings.queued", this, ReadingDispatcher::getQueuedCount)
+                .description("Readings waiting in the admission queue")
+                .register(meterRegistry);
+        Gauge.builder("ai.readings.in_flight", this, ReadingDispatcher::getInFlightCount)
+                .description("Readings currently being processed")
+                .register(meterRegistry);
+        Gauge.builder("ai.readings.estimated_wait", this, dispatcher -> dispatcher.estimatedWaitSeconds(
+                        dispatcher.getQueuedCount() + 1))
+                .description("Estimated wait in seconds for a newly submitted reading")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        logger.info("AI pipeline mode: {} (max in-flight: {}, queue capacity: {})",
+                this.mode, this.maxInFlight, queueCapacity);
+    }
+
+    /**
+     * 새 리딩 자리 예약 (제출을 DB에 기록하기 전에 호출) - 자리가 없으면 ReadingQueueFullException (503)
+     * 예약한 자리는 Reservation.dispatch로 쓰거나, 제출 기록에 실패하면 Reservation.cancel로 돌려놓아야 함
+     */
+    public Reservation reserve() {
+        synchronized (this) {
+            if (!isSaturated()) {
+                reserved++;
+                return new Reservation();
+            }
+        }
+        throw rejected();
+    }
+
+    /**
+     * 예약한 자리로 리딩 처리 시작 (요청 스레드는 즉시 반환) - 대기열 크기로 거절되지 않음
+     */
+    private void dispatchReserved(String sessionId, SubmitRequest request) {
+        PendingReading reading = new PendingReading(sessionId, request, Priority.NORMAL, sequence.incrementAndGet());
+        synchronized (this) {
+            reserved--;
+            queue.add(reading);
+        }
+
+        try {
+            readingJobService.register(sessionId);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                queue.remove(reading);
+            }
+            throw e;
+        }
+        enqueued(reading);
+    }
+
+    /**
+     * 다른 노드에서 중단된 리딩 이어서 처리 (ReadingJobRecovery가 작업을 가져온 뒤 호출)
+     * 이미 받은 요청이므로 대기열 크기와 관계없이 넣고 새 요청보다 먼저 시작
+     */
+    public void resume(String sessionId, SubmitRequest request) {
+        PendingReading reading = new PendingReading(sessionId, request, Priority.HIGH, sequence.incrementAndGet());
+        synchronized (this) {
+            queue.add(reading);
+        }
+        enqueued(reading);
+    }
+
+    private void enqueued(PendingReading reading) {
+        if (drain()) {
+            markPositionsChanged();
+        }
+        notifyQueuePosition(reading);
+    }
+
+    public boolean isReactive() {
+        return MODE_REACTIVE.equals(mode);
+    }
+
+    public synchronized int getQueuedCount() {
+        return queue.size();
+    }
+
+    public synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    /**
+     * position번째로 기다리는 리딩의 예상 대기 시간 (초) - 최근 처리 시간 평균 / 지금 동시에 처리 중인 수
+     */
+    public int estimatedWaitSeconds(int position) {
+        int concurrency = Math.max(1, Math.min(maxInFlight, getInFlightCount()));
+        return (int) Math.ceil(position * averageReadingSeconds / concurrency);
+    }
+
+    // 호출자가 this 잠금을 잡은 상태여야 함 - 예약된 제출도 자리를 차지한 것으로 봄
+    private boolean isSaturated() {
+        return inFlight + queue.size() + reserved >= maxInFlight + queueCapacity;
+    }
+
+    private ReadingQueueFullException rejected() {
+        rejectedCounter.increment();
+        int queued = getQueuedCount();
+        return new ReadingQueueFullException(queued, Math.max(1, estimatedWaitSeconds(queued + 1)));
+    }
+
+    /**
+     * 빈 자리만큼 대기열에서 꺼내 시작 - 하나라도 시작했으면 true
+     */
+    private boolean drain() {
+        boolean started = false;
+        while (true) {
+            PendingReading next;
+            synchronized (this) {
+                if (inFlight >= maxInFlight || queue.isEmpty()) {
+                    return started;
+                }
+                next = queue.poll();
+                inFlight++;
+            }
+            if (!start(next)) {
+                return started;
+            }
+            started = true;
+        }
+    }
+
+    private boolean start(PendingReading reading) {
+        long startedAt = System.nanoTime();
+        boolean leased = true;
+        try {
+            leased = readingJobService.markRunning(reading.sessionId);
+        } catch (Exception e) {
+            logger.warn("작업 상태 기록 실패 - 세션: {}", reading.sessionId, e);
+        }
+        if (!leased) {
+            // 대기하는 동안 lease가 끝나 다른 노드가 이어받음 - 여기서는 시작하지 않고 자리만 돌려놓음
+            logger.warn("작업 lease를 잃어 시작하지 않음 - 세션: {}", reading.sessionId);
+            synchronized (this) {
+                inFlight--;
+            }
+            return true;
+        }
+        try {
+            if (isReactive()) {
+                taroAiService.processReactive(reading.sessionId, reading.request)
+                        .onErrorResume(e -> {
+                            logger.error("리딩 파이프라인 종료 오류 - 세션: {}", reading.sessionId, e);
+                            return Mono.empty();
+                        })
+                        .doFinally(signal -> finish(startedAt))
+                        .subscribe();
+            } else {
+                taroAiService.processSequentially(reading.sessionId, reading.request)
+                        .whenComplete((result, e) -> finish(startedAt));
+            }
+        } catch (RejectedExecutionException e) {
+            // 실행기가 받지 못하면 자리를 돌려놓고 맨 앞에서 다시 기다림 (다음 리딩이 끝날 때 재시도)
+            logger.warn("리딩 실행 거절, 대기열로 되돌림 - 세션: {}", reading.sessionId);
+            synchronized (this) {
+                inFlight--;
+                queue.add(reading);
+            }
+            return false;
+        }
+        queueWaitTimer.record(startedAt - reading.enqueuedAt, TimeUnit.NANOSECONDS);
+        return true;
+    }
+
+    private void finish(long startedAt) {
+        double seconds = Duration.ofNanos(System.nanoTime() - startedAt).toMillis() / 1000.0;
+        synchronized (this) {
+            inFlight--;
+            averageReadingSeconds += READING_TIME_SMOOTHING * (seconds - averageReadingSeconds);
+        }
+        if (drain()) {
+            markPositionsChanged();
+        }
+    }
+
+    private synchronized void markPositionsChanged() {
+        positionsChanged = true;
+    }
+
+    /**
+     * 바뀐 순번을 모아서 전송 - 리딩이 끝날 때마다 대기 중인 모든 세션에 보내지 않고,
+     * 주기마다 한 번 마지막으로 보낸 순번과 달라진 세션에만 전송
+     */
+    @Scheduled(fixedDelayString = "${ai.admission.position-update-interval-ms:2000}",
+            initialDelayString = "${ai.admission.position-update-interval-ms:2000}")
+    public void publishQueuePositions() {
+        List<PendingReading> waiting;
+        synchronized (this) {
+            if (!positionsChanged) {
+                return;
+            }
+            positionsChanged = false;
+            waiting = new ArrayList<>(queue);
+        }
+        waiting.sort(queue.comparator());
+        for (int i = 0; i < waiting.size(); i++) {
+            PendingReading reading = waiting.get(i);
+            int position = i + 1;
+            if (reading.notifiedPosition != position) {
+                reading.notifiedPosition = position;
+                sendQueued(reading.sessionId, position);
+            }
+        }
+    }
+
+    private void notifyQueuePosition(PendingReading reading) {
+        int position = 0;
+        synchronized (this) {
+            if (!queue.contains(reading)) {
+                return;
+            }
+            Comparator<? super PendingReading> order = queue.comparator();
+            for (PendingReading other : queue) {
+                if (order.compare(other, reading) <= 0) {
+                    position++;
+                }
+            }
+        }
+        reading.notifiedPosition = position;
+        sendQueued(reading.sessionId, position);
+    }
+
+    private void sendQueued(String sessionId, int position) {
+        sseManager.sendQueuedEvent(sessionId, position, estimatedWaitSeconds(position));
+    }
+
+    /**
+     * 종료 시 아직 시작하지 않은 리딩은 작업 lease를 내려놓아 다른 노드가 바로 이어받게 함
+     * (처리 중인 리딩은 lease를 유지 - 종료 대기 안에 끝나지 못하면 lease 만료 후 이어받음)
+     */
+    @PreDestroy
+    void stop() {
+        List<String> waiting = new ArrayList<>();
+        synchronized (this) {
+            for (PendingReading reading : queue) {
+                waiting.add(reading.sessionId);
+            }
+            queue.clear();
+        }
+        try {
+            readingJobService.release(waiting);
+        } catch (Exception e) {
+            logger.warn("대기 중 작업 lease 해제 실패 - {}건", waiting.size(), e);
+        }
+    }
+
+    /**
+     * reserve()로 잡은 자리 - dispatch 또는 cancel 중 한 번만 사용
+     */
+    public final class Reservation {
+
+        private boolean used;
+
+        private Reservation() {
+        }
+
+        public void dispatch(String sessionId, SubmitRequest request) {
+            markUsed();
+            dispatchReserved(sessionId, request);
+        }
+
+        public void cancel() {
+            if (used) {
+                return;
+            }
+            markUsed();
+            synchronized (ReadingDispatcher.this) {
+                reserved--;
+            }
+        }
+
+        private void markUsed() {
+            if (used) {
+                throw new IllegalStateException("Reservation already used");
+            }
+            used = true;
+        }
+    }
+
+    private static final class PendingReading {
+        private final String sessionId;
+        private final SubmitRequest request;
+        private final Priority priority;
+        private final long sequence;
+        private final long enqueuedAt = System.nanoTime();
+        private volatile int notifiedPosition;   // 마지막으로 보낸 대기 순번 (0 = 아직 안 보냄)
+
+        private PendingReading(String sessionId, SubmitRequest request, Priority priority, long sequence) {
+            this.sessionId = sessionId;
+            this.request = request;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+}
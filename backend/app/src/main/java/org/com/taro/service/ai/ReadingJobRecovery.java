@@ -0,0 +1,143 @@
+package org.com.taro.service.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.com.taro.dto.SubmitRequest;
+import org.com.taro.entity.AiReadingJob;
+import org.com.taro.entity.TaroReading;
+import org.com.taro.entity.TaroSession;
+import org.com.taro.repository.TaroReadingRepository;
+import org.com.taro.repository.TaroSessionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Re-runs readings whose worker node went away
+ * - 기동 시: 작업 기록 없이 처리 중 상태로 남은 세션(작업 테이블 도입 전 제출분) 등록 + lease가 끝난 작업 이어받기
+ * - 주기적으로: lease가 끝난 작업 이어받기 (다른 노드가 죽거나 배포로 종료된 경우)
+ *
+ * 이어받은 리딩은 저장된 카드 해석 / 총평을 건너뛰고 남은 단계부터 처리 (TaroAiService)
+ * 기본 해석 생성 실행(ai.library.generate=true)에서는 만들지 않음 - 생성이 끝나면 프로세스가 종료되므로 이어받은 작업이 다시 끊김
+ */
+@Component
+@ConditionalOnProperty(name = "ai.library.generate", havingValue = "false", matchIfMissing = true)
+public class ReadingJobRecovery {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadingJobRecovery.class);
+
+    // 처리가 끝나지 않은 세션 상태 (제출 후 ~ 완료 전)
+    private static final Set<TaroSession.ProcessingStatus> UNFINISHED_STATUSES = EnumSet.range(
+            TaroSession.ProcessingStatus.SUBMITTED, TaroSession.ProcessingStatus.IMAGE_PROCESSING);
+
+    private final ReadingJobService readingJobService;
+    private final ReadingDispatcher readingDispatcher;
+    private final TaroSessionRepository taroSessionRepository;
+    private final TaroReadingRepository taroReadingRepository;
+    private final ReadingProgressTracker progressTracker;
+    private final int maxAttempts;
+    private final int batchSize;
+    private final Counter resumedCounter;
+    private final Counter abandonedCounter;
+
+    public ReadingJobRecovery(ReadingJobService readingJobService,
+                              ReadingDispatcher readingDispatcher,
+                              TaroSessionRepository taroSessionRepository,
+                              TaroReadingRepository taroReadingRepository,
+                              ReadingProgressTracker progressTracker,
+                              MeterRegistry meterRegistry,
+                              @Value("${ai.jobs.max-attempts:3}") int maxAttempts,
+                              @Value("${ai.jobs.recovery-batch-size:100}") int batchSize) {
+        this.readingJobService = readingJobService;
+        this.readingDispatcher = readingDispatcher;
+        this.taroSessionRepository = taroSessionRepository;
+        this.taroReadingRepository = taroReadingRepository;
+        this.progressTracker = progressTracker;
+        this.maxAttempts = maxAttempts;
+        this.batchSize = batchSize;
+        this.resumedCounter = Counter.builder("ai.jobs.resumed")
+                .description("Interrupted readings resumed on this node")
+                .register(meterRegistry);
+        this.abandonedCounter = Counter.builder("ai.jobs.abandoned")
+                .description("Interrupted readings failed after exceeding ai.jobs.max-attempts")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        try {
+            adoptSessionsWithoutJob();
+            resumeExpiredJobs();
+        } catch (Exception e) {
+            logger.error("기동 시 AI 작업 복구 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ai.jobs.recovery-interval-ms:60000}",
+            initialDelayString = "${ai.jobs.recovery-interval-ms:60000}")
+    public void resumeExpiredJobs() {
+        List<String> expired = readingJobService.findExpired(batchSize);
+        for (String sessionId : expired) {
+            try {
+                if (readingJobService.holdsLease(sessionId)) {
+                    continue; // 이 노드가 처리 중 - heartbeat가 늦었을 뿐이므로 다음 연장을 기다림
+                }
+                AiReadingJob job = readingJobService.claimExpired(sessionId);
+                if (job == null) {
+                    continue; // 다른 노드가 먼저 가져감
+                }
+                if (job.getAttempts() > maxAttempts) {
+                    abandonedCounter.increment();
+                    logger.warn("AI 작업 재시도 한도 초과 - 세션: {}, 시도: {}", sessionId, job.getAttempts());
+                    progressTracker.failed(sessionId, "타로 해석이 여러 번 중단되어 처리하지 못했습니다");
+                    continue;
+                }
+                resume(sessionId);
+            } catch (Exception e) {
+                logger.error("AI 작업 이어받기 실패 - 세션: {}", sessionId, e);
+            }
+        }
+    }
+
+    /**
+     * 작업 기록 없이 처리 중 상태로 멈춘 세션 - lease 시간 이상 갱신이 없었던 것만 (다른 노드에서 아직 처리 중일 수 있음)
+     */
+    private void adoptSessionsWithoutJob() {
+        LocalDateTime before = LocalDateTime.now().minus(readingJobService.getLeaseDuration());
+        List<String> orphaned = taroSessionRepository.findSessionIdsWithoutJob(UNFINISHED_STATUSES, before);
+        for (String sessionId : orphaned) {
+            try {
+                if (readingJobService.registerIfAbsent(sessionId)) {
+                    resume(sessionId);
+                }
+            } catch (Exception e) {
+                logger.error("중단된 세션 복구 실패 - 세션: {}", sessionId, e);
+            }
+        }
+    }
+
+    private void resume(String sessionId) {
+        TaroReading reading = taroReadingRepository.findBySessionId(sessionId).stream().findFirst().orElse(null);
+        if (reading == null || reading.getQuestionText() == null || reading.getReaderType() == null) {
+            logger.warn("제출 정보가 없어 이어서 처리할 수 없음 - 세션: {}", sessionId);
+            progressTracker.failed(sessionId, "제출 정보를 찾을 수 없어 타로 해석을 이어갈 수 없습니다");
+            return;
+        }
+
+        SubmitRequest request = new SubmitRequest(reading.getCategoryCode(), reading.getTopicCode(),
+                reading.getQuestionText(), reading.getReaderType());
+        resumedCounter.increment();
+        logger.info("중단된 AI 작업 이어서 처리 - 세션: {}", sessionId);
+        readingDispatcher.resume(sessionId, request);
+    }
+}
@@ -0,0 +1,203 @@
+package org.com.taro.service.ai;
+
+import org.com.taro.entity.AiReadingJob;
+import org.com.taro.repository.AiReadingJobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Durable record of submitted readings (ai_reading_jobs)
+ * 이 노드가 맡은 작업의 lease를 heartbeat로 연장하고, 완료/실패 시 해제
+ * lease가 끝난 작업은 ReadingJobRecovery가 찾아서 이어받음
+ *
+ * 상태 변경과 처리 결과 기록(ReadingProgressTracker)은 lease_owner가 이 노드일 때만 반영됨
+ * heartbeat에서 연장되지 않은 작업은 다른 노드가 가져간 것으로 보고 ownedSessions에서 빼서 처리를 중단시킴
+ */
+@Service
+public class ReadingJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadingJobService.class);
+
+    static final Set<AiReadingJob.JobStatus> ACTIVE_STATUSES =
+            Set.of(AiReadingJob.JobStatus.PENDING, AiReadingJob.JobStatus.RUNNING);
+
+    private final AiReadingJobRepository jobRepository;
+    private final Duration leaseDuration;
+    private final String owner;
+
+    // 이 노드가 lease를 가진 세션 (대기 중 + 처리 중)
+    private final Set<String> ownedSessions = ConcurrentHashMap.newKeySet();
+
+    public ReadingJobService(AiReadingJobRepository jobRepository,
+                             @Value("${ai.jobs.lease-seconds:120}") long leaseSeconds,
+                             @Value("${ai.jobs.node-id:}") String nodeId) {
+        this.jobRepository = jobRepository;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+        this.owner = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        logger.info("AI reading job owner: {} (lease: {}s)", owner, leaseSeconds);
+    }
+
+    /**
+     * 새로 제출된 리딩 등록 (이미 있던 세션이면 대기 상태로 초기화)
+     */
+    public void register(String sessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jobRepository.save(new AiReadingJob(sessionId, owner, now.plus(leaseDuration)));
+        } catch (DataIntegrityViolationException e) {
+            jobRepository.reset(sessionId, AiReadingJob.JobStatus.PENDING, owner, now.plus(leaseDuration), now);
+        }
+        ownedSessions.add(sessionId);
+    }
+
+    /**
+     * 작업 기록이 없는 세션을 새로 등록 - 다른 노드가 먼저 등록했으면 false
+     */
+    public boolean registerIfAbsent(String sessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jobRepository.save(new AiReadingJob(sessionId, owner, now.plus(leaseDuration)));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+        ownedSessions.add(sessionId);
+        return true;
+    }
+
+    /**
+     * lease가 끝난 작업 가져오기 - 다른 노드가 먼저 가져갔으면 null
+     */
+    public AiReadingJob claimExpired(String sessionId) {
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = jobRepository.claimExpired(sessionId, ACTIVE_STATUSES, AiReadingJob.JobStatus.PENDING,
+                owner, now.plus(leaseDuration), now);
+        if (claimed == 0) {
+            return null;
+        }
+        ownedSessions.add(sessionId);
+        return jobRepository.findById(sessionId).orElse(null);
+    }
+
+    public List<String> findExpired(int limit) {
+        return jobRepository.findExpiredSessionIds(ACTIVE_STATUSES, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 처리 시작 기록 - lease를 잃었으면 false (대기하는 동안 다른 노드가 이어받음)
+     */
+    public boolean markRunning(String sessionId) {
+        int updated = jobRepository.updateStatus(sessionId, owner, AiReadingJob.JobStatus.RUNNING, LocalDateTime.now());
+        if (updated == 0) {
+            leaseLost(sessionId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 완료 기록 + lease 해제 - lease를 잃었으면 false
+     */
+    public boolean markCompleted(String sessionId) {
+        return finish(sessionId, AiReadingJob.JobStatus.COMPLETED);
+    }
+
+    public boolean markFailed(String sessionId) {
+        return finish(sessionId, AiReadingJob.JobStatus.FAILED);
+    }
+
+    /**
+     * 이 노드가 아직 lease를 가진 작업인지 (heartbeat에서 연장에 실패한 작업은 false)
+     */
+    public boolean holdsLease(String sessionId) {
+        return ownedSessions.contains(sessionId);
+    }
+
+    /**
+     * lease를 잃은 작업 정리 (결과 기록이 lease 확인에 걸린 경우 포함)
+     */
+    public void leaseLost(String sessionId) {
+        if (ownedSessions.remove(sessionId)) {
+            logger.warn("AI 작업 lease를 잃음 - 세션: {} (다른 노드가 이어서 처리)", sessionId);
+        }
+    }
+
+    /**
+     * 종료 시 아직 시작하지 않은 작업을 내려놓음 (다른 노드가 lease 만료를 기다리지 않고 바로 이어받음)
+     */
+    public void release(Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        ownedSessions.removeAll(sessionIds);
+        jobRepository.releaseLeases(sessionIds, owner, LocalDateTime.now());
+    }
+
+    /**
+     * heartbeat - 맡은 작업의 lease 연장 (lease 시간보다 충분히 짧은 주기로 실행)
+     */
+    @Scheduled(fixedDelayString = "${ai.jobs.heartbeat-interval-ms:30000}",
+            initialDelayString = "${ai.jobs.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (ownedSessions.isEmpty()) {
+            return;
+        }
+        List<String> sessions = List.copyOf(ownedSessions);
+        try {
+            int extended = jobRepository.extendLeases(sessions, owner, LocalDateTime.now().plus(leaseDuration));
+            if (extended < sessions.size()) {
+                // 연장되지 않은 작업 = lease가 끝난 뒤 다른 노드가 가져갔거나 이미 종료됨
+                Set<String> stillOwned = new HashSet<>(jobRepository.findOwnedSessionIds(sessions, owner));
+                for (String sessionId : sessions) {
+                    if (!stillOwned.contains(sessionId)) {
+                        leaseLost(sessionId);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("AI 작업 lease 연장 실패 - 작업 수: {}", ownedSessions.size(), e);
+        }
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public Duration getLeaseDuration() {
+        return leaseDuration;
+    }
+
+    private boolean finish(String sessionId, AiReadingJob.JobStatus status) {
+        int updated = jobRepository.finish(sessionId, owner, status, LocalDateTime.now());
+        if (updated == 0) {
+            leaseLost(sessionId);
+            return false;
+        }
+        ownedSessions.remove(sessionId);
+        return true;
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,250 @@
+package org.com.taro.service.ai;
+
+import org.com.taro.entity.TaroSession;
+import org.com.taro.exception.LeaseLostException;
+import org.com.taro.repository.TaroReadingRepository;
+import org.com.taro.repository.TaroSessionRepository;
+import org.com.taro.service.ResultSnapshotService;
+import org.com.taro.service.SSEManager;
+import org.com.taro.service.TaroService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory progress of readings running on this node
+ * 진행 중 상태는 메모리에서 관리하고 DB(processing_status)는 체크포인트에서만 UPDATE 한 번으로 기록
+ *
+ * - *_PROCESSING: 메모리 + status_changed 이벤트만 (DB 기록 없음, 같은 상태 중복 전송 생략)
+ * - 카드 해석 / 총평 완료: 해석 내용과 상태를 바로 저장 + 상태를 함께 실은 card_interpreted / summary_generated 한 번
+ *   (재시작 후 이어서 처리할 때 이미 저장된 해석은 다시 생성하지 않음)
+ * - COMPLETED / FAILED: 최종 기록 + 작업(ai_reading_jobs) 종료 후, 트랜잭션 안이면 끝난 뒤 completed / error 전송
+ *   (클라이언트가 이벤트를 받고 /result를 조회할 때 DB에 이미 반영되어 있도록)
+ *
+ * 다른 노드에서의 조회는 SSE 이벤트로 채워지는 ReadingProgressRegistry가 담당
+ *
+ * 모든 DB 기록은 작업 lease를 가진 노드일 때만 반영되고 (lease_owner 조건), 반영되지 않으면 이벤트 없이
+ * LeaseLostException - lease가 끝난 뒤 다른 노드가 이어받은 리딩을 두 노드가 함께 기록/전송하지 않도록
+ */
+@Component
+public class ReadingProgressTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadingProgressTracker.class);
+
+    private final TaroSessionRepository taroSessionRepository;
+    private final TaroReadingRepository taroReadingRepository;
+    private final ReadingJobService readingJobService;
+    private final SSEManager sseManager;
+    private final TaroService taroService;
+    private final ResultSnapshotService resultSnapshotService;
+
+    // 이 노드에서 처리 중인 세션의 현재 상태 (최종 상태가 되면 제거)
+    private final ConcurrentHashMap<String, TaroSession.ProcessingStatus> inFlight = new ConcurrentHashMap<>();
+
+    public ReadingProgressTracker(TaroSessionRepository taroSessionRepository,
+                                  TaroReadingRepository taroReadingRepository,
+                                  ReadingJobService readingJobService,
+                                  SSEManager sseManager,
+                                  TaroService taroService,
+                                  ResultSnapshotService resultSnapshotService) {
+        this.taroSessionRepository = taroSessionRepository;
+        this.taroReadingRepository = taroReadingRepository;
+        this.readingJobService = readingJobService;
+        this.sseManager = sseManager;
+        this.taroService = taroService;
+        this.resultSnapshotService = resultSnapshotService;
+    }
+
+    /**
+     * 진행 중 상태로 전환 (DB 기록 없음) - heartbeat에서 lease를 잃은 것이 확인됐으면 LeaseLostException
+     */
+    public void processing(String sessionId, TaroSession.ProcessingStatus status, String message) {
+        ensureLease(sessionId);
+        if (inFlight.put(sessionId, status) == status) {
+            return;
+        }
+        sseManager.sendStatusEvent(sessionId, status.name(), message, progressOf(status));
+    }
+
+    /**
+     * 체크포인트 - processing_status를 DB에 기록 (이벤트 없음)
+     */
+    public void checkpoint(String sessionId, TaroSession.ProcessingStatus status) {
+        ensureLease(sessionId);
+        inFlight.put(sessionId, status);
+        fenced(sessionId, taroSessionRepository.updateProcessingStatus(sessionId, readingJobService.getOwner(),
+                status, LocalDateTime.now()));
+    }
+
+    /**
+     * 카드 해석 완료 - 해석 저장 + 체크포인트 + card_interpreted 한 번
+     */
+    public void cardCompleted(String sessionId, int position, String interpretation,
+                              TaroSession.ProcessingStatus status) {
+        saveInterpretation(sessionId, position, interpretation);
+        checkpoint(sessionId, status);
+        sseManager.sendCardInterpretedEvent(sessionId, position, interpretation, status.name(), progressOf(status));
+    }
+
+    /**
+     * 카드 해석 저장 + 전송 (병렬 해석 - 끝나는 순서가 정해져 있지 않아 처리 상태는 그대로 둠)
+     */
+    public void cardInterpreted(String sessionId, int position, String interpretation) {
+        saveInterpretation(sessionId, position, interpretation);
+        TaroSession.ProcessingStatus current = inFlight.get(sessionId);
+        sseManager.sendCardInterpretedEvent(sessionId, position, interpretation,
+                current != null ? current.name() : null, current != null ? progressOf(current) : null);
+    }
+
+    /**
+     * 총평 완료 - 총평 저장 + 체크포인트 + summary_generated 한 번
+     */
+    public void summaryCompleted(String sessionId, String summary) {
+        checkpoint(sessionId, TaroSession.ProcessingStatus.SUMMARY_COMPLETED);
+        summaryGenerated(sessionId, summary);
+    }
+
+    /**
+     * 총평 저장 + 전송 (처리 상태 체크포인트는 행운카드 메시지까지 끝난 뒤 checkpoint로 따로 기록)
+     */
+    public void summaryGenerated(String sessionId, String summary) {
+        fenced(sessionId, taroReadingRepository.updateSummary(sessionId, readingJobService.getOwner(), summary));
+        TaroSession.ProcessingStatus status = TaroSession.ProcessingStatus.SUMMARY_COMPLETED;
+        inFlight.put(sessionId, status);
+        sseManager.sendSummaryEvent(sessionId, summary, status.name(), progressOf(status));
+    }
+
+    /**
+     * 행운카드 메시지 완료 - 점수 + 재해석 메시지 저장 (이벤트 없음, 다음 completed에 포함)
+     */
+    public void luckyCardCompleted(String sessionId, Integer fortuneScore, String luckyMessage) {
+        ensureLease(sessionId);
+        fenced(sessionId, taroReadingRepository.updateLuckyCardResult(sessionId, readingJobService.getOwner(),
+                fortuneScore, luckyMessage));
+    }
+
+    /**
+     * 전체 완료 - 처리 상태와 세션 상태를 함께 기록하고 결과 스냅샷 저장 (completed 이벤트 뒤의 /result 조회가 바로 스냅샷을 쓰도록)
+     */
+    public void completed(String sessionId) {
+        ensureLease(sessionId);
+        inFlight.remove(sessionId);
+        fenced(sessionId, taroSessionRepository.updateStatuses(sessionId, readingJobService.getOwner(),
+                TaroSession.ProcessingStatus.COMPLETED, TaroSession.SessionStatus.COMPLETED, LocalDateTime.now()));
+        if (!readingJobService.markCompleted(sessionId)) {
+            throw new LeaseLostException(sessionId);
+        }
+        freezeResult(sessionId);
+        afterTransaction(() -> sseManager.sendCompletedEvent(sessionId), () -> {
+            logger.error("리딩 트랜잭션 롤백 - 세션: {}", sessionId);
+            sseManager.sendErrorEvent(sessionId, "타로 해석 결과 저장에 실패했습니다");
+        });
+    }
+
+    /**
+     * 실패 - FAILED 기록 후 error 이벤트 (lease를 잃었으면 다른 노드가 처리 중이므로 기록/전송하지 않음)
+     */
+    public void failed(String sessionId, String errorMessage) {
+        inFlight.remove(sessionId);
+        try {
+            int updated = taroSessionRepository.updateProcessingStatus(sessionId, readingJobService.getOwner(),
+                    TaroSession.ProcessingStatus.FAILED, LocalDateTime.now());
+            if (updated == 0 || !readingJobService.markFailed(sessionId)) {
+                readingJobService.leaseLost(sessionId);
+                logger.warn("lease를 잃어 실패 기록 생략 - 세션: {}", sessionId);
+                return;
+            }
+        } catch (Exception e) {
+            logger.error("FAILED 상태 기록 실패 - 세션: {}", sessionId, e);
+        }
+        Runnable sendError = () -> sseManager.sendErrorEvent(sessionId, errorMessage);
+        afterTransaction(sendError, sendError);
+    }
+
+    private void freezeResult(String sessionId) {
+        try {
+            resultSnapshotService.freeze(taroService.getSessionResult(sessionId));
+        } catch (Exception e) {
+            // 결과 조회 경로에서 다시 고정하므로 완료 처리는 계속
+            logger.warn("결과 스냅샷 저장 실패 - 세션: {}", sessionId, e);
+        }
+    }
+
+    private void saveInterpretation(String sessionId, int position, String interpretation) {
+        String owner = readingJobService.getOwner();
+        switch (position) {
+            case 1 -> fenced(sessionId, taroReadingRepository.updatePastInterpretation(sessionId, owner, interpretation));
+            case 2 -> fenced(sessionId,
+                    taroReadingRepository.updatePresentInterpretation(sessionId, owner, interpretation));
+            case 3 -> fenced(sessionId,
+                    taroReadingRepository.updateFutureInterpretation(sessionId, owner, interpretation));
+            default -> logger.warn("알 수 없는 카드 위치 - 세션: {}, 위치: {}", sessionId, position);
+        }
+    }
+
+    private void ensureLease(String sessionId) {
+        if (!readingJobService.holdsLease(sessionId)) {
+            inFlight.remove(sessionId);
+            throw new LeaseLostException(sessionId);
+        }
+    }
+
+    /**
+     * lease 조건이 걸린 UPDATE 결과 확인 - 반영되지 않았으면 다른 노드가 이어받은 것
+     */
+    private void fenced(String sessionId, int updated) {
+        if (updated == 0) {
+            inFlight.remove(sessionId);
+            readingJobService.leaseLost(sessionId);
+            throw new LeaseLostException(sessionId);
+        }
+    }
+
+    public TaroSession.ProcessingStatus currentStatus(String sessionId) {
+        return inFlight.get(sessionId);
+    }
+
+    /**
+     * 진행률 (%)
+     */
+    public static int progressOf(TaroSession.ProcessingStatus status) {
+        switch (status) {
+            case PAST_PROCESSING: return 20;
+            case PAST_COMPLETED: return 30;
+            case PRESENT_PROCESSING: return 40;
+            case PRESENT_COMPLETED: return 50;
+            case FUTURE_PROCESSING: return 60;
+            case FUTURE_COMPLETED: return 70;
+            case SUMMARY_PROCESSING: return 80;
+            case SUMMARY_COMPLETED: return 90;
+            case IMAGE_PROCESSING: return 95;
+            case COMPLETED: return 100;
+            default: return 0;
+        }
+    }
+
+    /**
+     * 리딩 트랜잭션 안이면 트랜잭션이 끝난 뒤 커밋 여부에 따라 전송, 아니면 바로 전송
+     */
+    private static void afterTransaction(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+}
@@ -9,48 +9,76 @@ import org.com.taro.dto.ImageGenerationResult;
 import org.com.taro.entity.TaroSession;
 import org.com.taro.entity.DrawnCard;
 import org.com.taro.entity.TaroReading;
-import org.com.taro.entity.TaroCardEntity;
+import org.com.taro.entity.LuckyCard;
 import org.com.taro.repository.*;
 import org.com.taro.service.SSEManager;
 import org.com.taro.constants.ValidationConstants;
-import org.com.taro.constants.StatusConstants;
+import org.com.taro.config.OpenAIConfig;
+import org.com.taro.exception.LeaseLostException;
+import org.com.taro.exception.UpstreamUnavailableException;
 import org.com.taro.service.ReferenceDataService;
+import org.com.taro.service.TaroCardCatalog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 @Service
 public class TaroAiService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaroAiService.class);
 
+    private static final String[] TIME_FRAMES = {ValidationConstants.TIMEFRAME_PAST,
+            ValidationConstants.TIMEFRAME_PRESENT, ValidationConstants.TIMEFRAME_FUTURE};
+
     @Autowired
     private OpenAIClient openAIClient;
 
     @Autowired
     private GeminiImageClient geminiImageClient;
 
+    @Autowired
+    private OpenAIConfig openAIConfig;
+
     @Autowired
     private MockAiService mockAiService;
 
     @Value("${ai.mock.enabled:false}")
     private boolean mockEnabled;
 
+    // sequential: 앞 카드 해석을 대화로 이어가며 순서대로, parallel: 세 장을 독립 프롬프트로 동시에 해석
+    @Value("${ai.pipeline.spread-mode:sequential}")
+    private String spreadMode;
+
+    // true면 행운카드 메시지를 총평 대신 세 카드 해석으로 만들어 총평과 동시에 생성
+    @Value("${ai.pipeline.overlap-lucky-card:false}")
+    private boolean overlapLuckyCard;
+
     @Autowired
     private PromptService promptService;
 
     @Autowired
     private ReaderPersonaService readerPersonaService;
 
+    @Autowired
+    private CardInterpretationLibrary interpretationLibrary;
+
     @Autowired
     private SSEManager sseManager;
 
     @Autowired
-    private TaroSessionRepository taroSessionRepository;
+    private ReadingProgressTracker progressTracker;
 
     @Autowired
     private TaroReadingRepository taroReadingRepository;
@@ -59,111 +87,479 @@ public class TaroAiService {
     private DrawnCardRepository drawnCardRepository;
 
     @Autowired
-    private TaroCardRepository taroCardRepository;
+    private TaroCardCatalog taroCardCatalog;
 
     @Autowired
     private ReferenceDataService referenceDataService;
 
     /**
      * 순차적 AI 처리 메인 메서드 과거 -> 현재 -> 미래 -> 총평 -> 이미지 순서로 처리
+     * 단계별 결과는 끝날 때마다 바로 저장 (LLM 호출 동안 트랜잭션/커넥션을 잡고 있지 않음)
+     * 이미 저장된 카드 해석 / 총평은 다시 생성하지 않음 (재시작 후 이어서 처리하는 경우)
+     * 반환된 future는 처리가 끝나면 완료됨 (ReadingDispatcher가 다음 대기 리딩을 시작하는 시점)
      */
     @Async("taroTaskExecutor")
-    @Transactional
-    public void processSequentially(String sessionId, SubmitRequest request) {
+    public CompletableFuture<Void> processSequentially(String sessionId, SubmitRequest request) {
         logger.info("순차적 AI 처리 시작 - 세션: {}, 스레드: {}", sessionId, Thread.currentThread().getName());
 
         try {
-            // 세션 정보 조회
-            TaroSession session = taroSessionRepository.findById(sessionId)
-                    .orElseThrow(() -> new RuntimeException("Session not found: " + sessionId));
-
-            TaroReading taroReading = taroReadingRepository.findBySessionId(sessionId).stream()
-                    .findFirst().orElseThrow(() -> new RuntimeException(
+            // 세션 + TaroReading + 뽑은 카드 3장을 한 번에 조회
+            TaroReading taroReading = taroReadingRepository.findBySessionIdWithDrawnCards(sessionId)
+                    .orElseThrow(() -> new RuntimeException(
                             "TaroReading not found for session: " + sessionId));
-
-            // 뽑은 카드 3장 조회
-            List<DrawnCard> drawnCards =
-                    drawnCardRepository.findByReadingIdOrderByPosition(taroReading.getId());
+            List<DrawnCard> drawnCards = taroReading.getDrawnCards();
             if (drawnCards.size() != 3) {
                 throw new RuntimeException("Expected 3 cards, but found " + drawnCards.size());
             }
 
-            // 대화 컨텍스트 초기화
-            List<ChatMessage> conversationHistory = new ArrayList<>();
-
-            // 시스템 프롬프트 추가 (리더 타입별)
+            // 시스템 프롬프트 (리더 타입별)
             String systemPrompt = readerPersonaService.getSystemPrompt(request.getReaderType());
-            conversationHistory.add(new ChatMessage("system", systemPrompt));
-
-            // 1. 과거 카드 해석 (position = 1)
-            String pastInterpretation = interpretCardWithConversation(sessionId, drawnCards.get(0),
-                    request, ValidationConstants.TIMEFRAME_PAST, conversationHistory);
-            updateProcessingStatus(sessionId, TaroSession.ProcessingStatus.PAST_COMPLETED);
-            sseManager.sendCardInterpretedEvent(sessionId, 1, pastInterpretation);
-
-            // 2. 현재 카드 해석 (position = 2) - 과거 컨텍스트 포함
-            String presentInterpretation = interpretCardWithConversation(sessionId,
-                    drawnCards.get(1), request, ValidationConstants.TIMEFRAME_PRESENT, conversationHistory);
-            updateProcessingStatus(sessionId, TaroSession.ProcessingStatus.PRESENT_COMPLETED);
-            sseManager.sendCardInterpretedEvent(sessionId, 2, presentInterpretation);
-
-            // 3. 미래 카드 해석 (position = 3) - 과거/현재 컨텍스트 포함
-            String futureInterpretation = interpretCardWithConversation(sessionId,
-                    drawnCards.get(2), request, ValidationConstants.TIMEFRAME_FUTURE, conversationHistory);
-            updateProcessingStatus(sessionId, TaroSession.ProcessingStatus.FUTURE_COMPLETED);
-            sseManager.sendCardInterpretedEvent(sessionId, 3, futureInterpretation);
-
-            // 데이터베이스에 각 해석 저장
-            taroReading.setPastInterpretation(pastInterpretation);
-            taroReading.setPresentInterpretation(presentInterpretation);
-            taroReading.setFutureInterpretation(futureInterpretation);
-            taroReadingRepository.save(taroReading);
-
-            // 4. 총평 생성
-            updateProcessingStatus(sessionId, TaroSession.ProcessingStatus.SUMMARY_PROCESSING);
-            sseManager.sendStatusEvent(sessionId, StatusConstants.STATUS_SUMMARY_PROCESSING, "총평을 생성하고 있습니다...", 80);
-
-            String summary = generateSummary(pastInterpretation, presentInterpretation,
-                    futureInterpretation, request);
-            taroReading.setInterpretation(summary);
-
-            // 5. 총평을 기반으로 점수 계산
-            Integer fortuneScore = calculateFortuneScore(summary);
-            taroReading.setFortuneScore(fortuneScore);
-
-            // 6. 행운카드 메시지 재해석
-            updateProcessingStatus(sessionId, TaroSession.ProcessingStatus.SUMMARY_COMPLETED);
-            sseManager.sendSummaryEvent(sessionId, summary);
-
-            String customLuckyMessage = generateLuckyCardMessage(summary, taroReading.getLuckyCardId(), request);
-            taroReading.setResultImageText(customLuckyMessage); // 행운카드 재해석 메시지를 resultImageText에 저장
-            taroReadingRepository.save(taroReading);
+            List<String> saved = savedInterpretations(taroReading);
+
+            String pastInterpretation;
+            String presentInterpretation;
+            String futureInterpretation;
+
+            if (isParallelSpread()) {
+                // 세 장 동시 해석 - 끝나는 순서대로 card_interpreted 전송
+                markSpreadProcessing(sessionId);
+                List<String> interpretations =
+                        interpretSpreadInParallel(sessionId, drawnCards, request, systemPrompt, saved, true).block();
+                pastInterpretation = interpretations.get(0);
+                presentInterpretation = interpretations.get(1);
+                futureInterpretation = interpretations.get(2);
+                progressTracker.checkpoint(sessionId, TaroSession.ProcessingStatus.FUTURE_COMPLETED);
+            } else {
+                // 대화 컨텍스트 초기화
+                List<ChatMessage> conversationHistory = new ArrayList<>();
+                conversationHistory.add(new ChatMessage("system", systemPrompt));
+
+                // 1. 과거 카드 해석 (position = 1)
+                pastInterpretation = interpretCardWithConversation(sessionId, drawnCards.get(0),
+                        request, ValidationConstants.TIMEFRAME_PAST, conversationHistory, saved.get(0));
+                progressTracker.cardCompleted(sessionId, 1, pastInterpretation,
+                        TaroSession.ProcessingStatus.PAST_COMPLETED);
+
+                // 2. 현재 카드 해석 (position = 2) - 과거 컨텍스트 포함
+                presentInterpretation = interpretCardWithConversation(sessionId,
+                        drawnCards.get(1), request, ValidationConstants.TIMEFRAME_PRESENT, conversationHistory,
+                        saved.get(1));
+                progressTracker.cardCompleted(sessionId, 2, presentInterpretation,
+                        TaroSession.ProcessingStatus.PRESENT_COMPLETED);
+
+                // 3. 미래 카드 해석 (position = 3) - 과거/현재 컨텍스트 포함
+                futureInterpretation = interpretCardWithConversation(sessionId,
+                        drawnCards.get(2), request, ValidationConstants.TIMEFRAME_FUTURE, conversationHistory,
+                        saved.get(2));
+                progressTracker.cardCompleted(sessionId, 3, futureInterpretation,
+                        TaroSession.ProcessingStatus.FUTURE_COMPLETED);
+            }
 
-            // 7. 완료 처리
-            updateProcessingStatus(sessionId, TaroSession.ProcessingStatus.COMPLETED);
-            session.setStatus(TaroSession.SessionStatus.COMPLETED);
-            taroSessionRepository.save(session);
+            // 카드 해석 / 총평은 progressTracker가 끝날 때마다 저장 - 여기서는 점수와 행운카드 메시지만 저장
+            if (overlapLuckyCard) {
+                // 4~6. 총평과 행운카드 메시지를 동시에 생성 후 한 번에 저장
+                progressTracker.processing(sessionId, TaroSession.ProcessingStatus.SUMMARY_PROCESSING,
+                        "총평을 생성하고 있습니다...");
+
+                Integer luckyCardId = taroReading.getLuckyCardId();
+                String savedSummary = taroReading.getInterpretation();
+                Function<LuckyCard, String> luckyPrompt = luckyCardPromptFromCards(
+                        pastInterpretation, presentInterpretation, futureInterpretation, request);
+
+                // 처리 상태 체크포인트는 호출 스레드에서만 수행 - 다른 스레드에서는 총평 저장 + SSE 전송만
+                var results = Mono.zip(
+                                blocking(() -> savedSummary != null ? savedSummary
+                                        : generateSummary(pastInterpretation, presentInterpretation,
+                                                futureInterpretation, request))
+                                        .doOnNext(summary -> progressTracker.summaryGenerated(sessionId, summary)),
+                                blocking(() -> generateLuckyCardMessage(luckyCardId, luckyPrompt)))
+                        .block();
+
+                // 행운카드 재해석 메시지는 resultImageText에 저장
+                progressTracker.luckyCardCompleted(sessionId, calculateFortuneScore(results.getT1()),
+                        results.getT2());
+                progressTracker.checkpoint(sessionId, TaroSession.ProcessingStatus.SUMMARY_COMPLETED);
+            } else {
+                // 4. 총평 생성
+                progressTracker.processing(sessionId, TaroSession.ProcessingStatus.SUMMARY_PROCESSING,
+                        "총평을 생성하고 있습니다...");
 
-            sseManager.sendCompletedEvent(sessionId);
+                String summary = taroReading.getInterpretation() != null ? taroReading.getInterpretation()
+                        : generateSummary(pastInterpretation, presentInterpretation, futureInterpretation, request);
+
+                // 5. 총평을 기반으로 점수 계산
+                Integer fortuneScore = calculateFortuneScore(summary);
+
+                // 6. 행운카드 메시지 재해석
+                progressTracker.summaryCompleted(sessionId, summary);
+
+                String customLuckyMessage = generateLuckyCardMessage(summary, taroReading.getLuckyCardId(), request);
+                // 행운카드 재해석 메시지는 resultImageText에 저장
+                progressTracker.luckyCardCompleted(sessionId, fortuneScore, customLuckyMessage);
+            }
+
+            // 7. 완료 처리
+            progressTracker.completed(sessionId);
 
             logger.info("순차적 AI 처리 완료 - 세션: {}", sessionId);
 
+        } catch (LeaseLostException e) {
+            logger.warn("작업 lease를 잃어 순차적 AI 처리 중단 - 세션: {}", sessionId);
         } catch (Exception e) {
             logger.error("순차적 AI 처리 실패 - 세션: {}, 에러: {}", sessionId, e.getMessage(), e);
-            updateProcessingStatus(sessionId, TaroSession.ProcessingStatus.FAILED);
-            sseManager.sendErrorEvent(sessionId, "타로 해석 중 오류가 발생했습니다: " + e.getMessage());
+            progressTracker.failed(sessionId, "타로 해석 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 논블로킹 AI 처리 (ai.pipeline.mode=reactive)
+     * processSequentially와 같은 순서/이벤트를 Mono 체인으로 구성. LLM 호출 중에는 스레드를 점유하지 않고,
+     * DB 조회/저장과 SSE 전송만 boundedElastic에서 짧게 실행 (긴 트랜잭션 없음)
+     */
+    public Mono<Void> processReactive(String sessionId, SubmitRequest request) {
+        return blocking(() -> {
+                    logger.info("논블로킹 AI 처리 시작 - 세션: {}", sessionId);
+                    return taroReadingRepository.findBySessionIdWithDrawnCards(sessionId)
+                            .orElseThrow(() -> new RuntimeException(
+                                    "TaroReading not found for session: " + sessionId));
+                })
+                .flatMap(taroReading -> runReadingPipeline(sessionId, taroReading, request))
+                .onErrorResume(LeaseLostException.class, e -> {
+                    logger.warn("작업 lease를 잃어 논블로킹 AI 처리 중단 - 세션: {}", sessionId);
+                    return Mono.empty();
+                })
+                .onErrorResume(e -> blocking(() -> {
+                    logger.error("논블로킹 AI 처리 실패 - 세션: {}, 에러: {}", sessionId, e.getMessage(), e);
+                    progressTracker.failed(sessionId, "타로 해석 중 오류가 발생했습니다: " + e.getMessage());
+                    return Boolean.TRUE;
+                }))
+                .then();
+    }
+
+    private Mono<Boolean> runReadingPipeline(String sessionId, TaroReading taroReading, SubmitRequest request) {
+        List<DrawnCard> drawnCards = taroReading.getDrawnCards();
+        if (drawnCards.size() != 3) {
+            return Mono.error(new RuntimeException("Expected 3 cards, but found " + drawnCards.size()));
+        }
+
+        List<String> saved = savedInterpretations(taroReading);
+        return blocking(() -> readerPersonaService.getSystemPrompt(request.getReaderType()))
+                .flatMap(systemPrompt -> isParallelSpread()
+                        ? blocking(() -> {
+                                    markSpreadProcessing(sessionId);
+                                    return Boolean.TRUE;
+                                })
+                                .then(interpretSpreadInParallel(sessionId, drawnCards, request, systemPrompt, saved,
+                                        false))
+                                .flatMap(interpretations -> blocking(() -> {
+                                    progressTracker.checkpoint(sessionId, TaroSession.ProcessingStatus.FUTURE_COMPLETED);
+                                    return interpretations;
+                                }))
+                        : interpretSpreadReactive(sessionId, drawnCards, request, systemPrompt, saved))
+                .flatMap(interpretations -> overlapLuckyCard
+                        ? summarizeWithLuckyCardOverlapped(sessionId, taroReading, interpretations, request)
+                        : summarizeThenLuckyCard(sessionId, taroReading, interpretations, request))
+                .flatMap(done -> blocking(() -> {
+                    progressTracker.completed(sessionId);
+                    logger.info("논블로킹 AI 처리 완료 - 세션: {}", sessionId);
+                    return Boolean.TRUE;
+                }));
+    }
+
+    /**
+     * 총평 → 행운카드 메시지 순서로 진행 (논블로킹) - 해석 / 총평은 progressTracker가 이미 저장
+     */
+    private Mono<Boolean> summarizeThenLuckyCard(String sessionId, TaroReading taroReading,
+            List<String> interpretations, SubmitRequest request) {
+        return blocking(() -> {
+                    progressTracker.processing(sessionId, TaroSession.ProcessingStatus.SUMMARY_PROCESSING,
+                            "총평을 생성하고 있습니다...");
+                    return promptService.createSummaryPrompt(interpretations.get(0), interpretations.get(1),
+                            interpretations.get(2), request);
+                })
+                .flatMap(prompt -> summaryOrSaved(taroReading, prompt))
+                .flatMap(summary -> blocking(() -> {
+                    progressTracker.summaryCompleted(sessionId, summary);
+                    return summary;
+                }))
+                .flatMap(summary -> generateLuckyCardMessageReactive(taroReading.getLuckyCardId(),
+                        luckyCard -> promptService.createLuckyCardPrompt(
+                                summary, luckyCard.getName(), luckyCard.getMessage(), request))
+                        .flatMap(customLuckyMessage -> blocking(() -> {
+                            progressTracker.luckyCardCompleted(sessionId, calculateFortuneScore(summary),
+                                    customLuckyMessage);
+                            return Boolean.TRUE;
+                        })));
+    }
+
+    /**
+     * 총평과 행운카드 메시지(세 카드 해석 기반)를 동시에 생성하고 점수 + 행운카드 메시지를 한 번에 저장 (논블로킹)
+     */
+    private Mono<Boolean> summarizeWithLuckyCardOverlapped(String sessionId, TaroReading taroReading,
+            List<String> interpretations, SubmitRequest request) {
+        String past = interpretations.get(0);
+        String present = interpretations.get(1);
+        String future = interpretations.get(2);
+
+        Mono<String> summary = blocking(() -> {
+                    progressTracker.processing(sessionId, TaroSession.ProcessingStatus.SUMMARY_PROCESSING,
+                            "총평을 생성하고 있습니다...");
+                    return promptService.createSummaryPrompt(past, present, future, request);
+                })
+                .flatMap(prompt -> summaryOrSaved(taroReading, prompt))
+                .flatMap(text -> blocking(() -> {
+                    progressTracker.summaryCompleted(sessionId, text);
+                    return text;
+                }));
+
+        Mono<String> luckyMessage = generateLuckyCardMessageReactive(taroReading.getLuckyCardId(),
+                luckyCardPromptFromCards(past, present, future, request));
+
+        return Mono.zip(summary, luckyMessage)
+                .flatMap(results -> blocking(() -> {
+                    progressTracker.luckyCardCompleted(sessionId, calculateFortuneScore(results.getT1()),
+                            results.getT2());
+                    return Boolean.TRUE;
+                }));
+    }
+
+    private Function<LuckyCard, String> luckyCardPromptFromCards(String past, String present, String future,
+            SubmitRequest request) {
+        return luckyCard -> promptService.createLuckyCardPromptFromCards(
+                past, present, future, luckyCard.getName(), luckyCard.getMessage(), request);
+    }
+
+    /**
+     * 세 장을 대화 컨텍스트로 이어가며 순서대로 해석 (논블로킹)
+     */
+    private Mono<List<String>> interpretSpreadReactive(String sessionId, List<DrawnCard> drawnCards,
+            SubmitRequest request, String systemPrompt, List<String> saved) {
+        // 대화 컨텍스트 (카드 해석은 concatMap으로 순서대로 실행되므로 동시 접근 없음)
+        List<ChatMessage> conversationHistory = new ArrayList<>();
+        conversationHistory.add(new ChatMessage("system", systemPrompt));
+
+        return Flux.range(0, drawnCards.size())
+                .concatMap(i -> interpretCardReactive(sessionId, drawnCards.get(i), request, TIME_FRAMES[i],
+                        conversationHistory, saved.get(i))
+                        .flatMap(interpretation -> blocking(() -> {
+                            progressTracker.cardCompleted(sessionId, i + 1, interpretation,
+                                    getProcessingStatusForTimeFrame(TIME_FRAMES[i], false));
+                            return interpretation;
+                        })))
+                .collectList();
+    }
+
+    /**
+     * 세 장을 같은 시스템 프롬프트 + 각자의 카드 프롬프트로 동시에 해석 (이전 카드 해석은 전달하지 않음)
+     * 끝나는 순서대로 card_interpreted를 보내고, 결과는 과거/현재/미래 순서로 반환
+     *
+     * @param saved         이미 저장된 해석 (과거/현재/미래, 없으면 null) - 저장된 카드는 모델을 호출하지 않음
+     * @param blockingCalls true면 블로킹 클라이언트를 boundedElastic에서 호출
+     */
+    private Mono<List<String>> interpretSpreadInParallel(String sessionId, List<DrawnCard> drawnCards,
+            SubmitRequest request, String systemPrompt, List<String> saved, boolean blockingCalls) {
+        return Flux.range(0, drawnCards.size())
+                .flatMap(i -> interpretCardIndependently(sessionId, drawnCards.get(i), request, TIME_FRAMES[i],
+                        systemPrompt, saved.get(i), blockingCalls)
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(interpretation -> {
+                            progressTracker.cardInterpreted(sessionId, i + 1, interpretation);
+                            return Map.entry(i, interpretation);
+                        }))
+                .collectList()
+                .map(entries -> {
+                    String[] ordered = new String[drawnCards.size()];
+                    entries.forEach(entry -> ordered[entry.getKey()] = entry.getValue());
+                    return List.of(ordered);
+                });
+    }
+
+    private Mono<String> interpretCardIndependently(String sessionId, DrawnCard drawnCard, SubmitRequest request,
+            String timeFrame, String systemPrompt, String saved, boolean blockingCalls) {
+        if (saved != null) {
+            return Mono.just(saved);
         }
+        int position = drawnCard.getPosition();
+        String base = personalizationBase(drawnCard, request);
+        if (base != null) {
+            return blockingCalls
+                    ? blocking(() -> personalize(sessionId, base, drawnCard, request, timeFrame))
+                    : personalizeReactive(sessionId, base, drawnCard, request, timeFrame);
+        }
+        return blocking(() -> buildCardPromptWithContext(drawnCard, request, timeFrame, false))
+                .flatMap(cardPrompt -> {
+                    List<ChatMessage> messages = List.of(
+                            new ChatMessage("system", systemPrompt),
+                            new ChatMessage("user", cardPrompt));
+                    return blockingCalls
+                            ? blocking(() -> callCardModelBlocking(sessionId, position, timeFrame, messages))
+                            : callCardModel(sessionId, position, messages);
+                })
+                .doOnNext(interpretation -> logger.info("병렬 카드 해석 완료 - 세션: {}, 시점: {}, 카드: {}",
+                        sessionId, timeFrame, drawnCard.getCardId()))
+                .onErrorResume(e -> blocking(() -> {
+                    logger.error("병렬 카드 해석 실패 - 세션: {}, 시점: {}, 에러: {}", sessionId, timeFrame,
+                            e.getMessage(), e);
+                    notifyIfUpstreamUnavailable(sessionId, position, e);
+                    return cardFallback(drawnCard, request, timeFrame);
+                }));
     }
 
     /**
-     * 대화 컨텍스트를 활용한 카드 해석
+     * 병렬 해석 시작 - 세 카드를 함께 해석 중이라는 상태 한 번만 알림 (카드별 완료는 card_interpreted로)
+     */
+    private void markSpreadProcessing(String sessionId) {
+        progressTracker.processing(sessionId, TaroSession.ProcessingStatus.PAST_PROCESSING,
+                "세 카드를 함께 해석하고 있습니다...");
+    }
+
+    private boolean isParallelSpread() {
+        return "parallel".equalsIgnoreCase(spreadMode);
+    }
+
+    /**
+     * 카드 한 장 해석 (논블로킹) - 실패 시 interpretCardWithConversation과 같은 fallback 사용
+     */
+    private Mono<String> interpretCardReactive(String sessionId, DrawnCard drawnCard, SubmitRequest request,
+            String timeFrame, List<ChatMessage> conversationHistory, String saved) {
+        if (saved != null) {
+            return blocking(() -> {
+                restoreConversation(drawnCard, request, timeFrame, conversationHistory, saved);
+                return saved;
+            });
+        }
+        String base = personalizationBase(drawnCard, request);
+        if (base != null) {
+            return blocking(() -> {
+                        progressTracker.processing(sessionId, getProcessingStatusForTimeFrame(timeFrame, true),
+                                timeFrame + " 카드를 해석하고 있습니다...");
+                        return Boolean.TRUE;
+                    })
+                    .then(personalizeReactive(sessionId, base, drawnCard, request, timeFrame))
+                    .flatMap(interpretation -> blocking(() -> {
+                        restoreConversation(drawnCard, request, timeFrame, conversationHistory, interpretation);
+                        return interpretation;
+                    }));
+        }
+        return blocking(() -> {
+                    progressTracker.processing(sessionId, getProcessingStatusForTimeFrame(timeFrame, true),
+                            timeFrame + " 카드를 해석하고 있습니다...");
+
+                    boolean hasPreviousContext = !timeFrame.equals(ValidationConstants.TIMEFRAME_PAST);
+                    return buildCardPromptWithContext(drawnCard, request, timeFrame, hasPreviousContext);
+                })
+                .flatMap(cardPrompt -> {
+                    conversationHistory.add(new ChatMessage("user", cardPrompt));
+                    return callCardModel(sessionId, drawnCard.getPosition(), List.copyOf(conversationHistory));
+                })
+                .doOnNext(interpretation -> {
+                    conversationHistory.add(new ChatMessage("assistant", interpretation));
+                    logger.info("대화 기반 카드 해석 완료 - 세션: {}, 시점: {}, 카드: {}", sessionId, timeFrame,
+                            drawnCard.getCardId());
+                })
+                .onErrorResume(e -> !(e instanceof LeaseLostException), e -> blocking(() -> {
+                    logger.error("대화 기반 카드 해석 실패 - 세션: {}, 시점: {}, 에러: {}", sessionId, timeFrame,
+                            e.getMessage(), e);
+                    notifyIfUpstreamUnavailable(sessionId, drawnCard.getPosition(), e);
+                    String fallbackInterpretation = cardFallback(drawnCard, request, timeFrame);
+                    conversationHistory.add(new ChatMessage("assistant", fallbackInterpretation));
+                    return fallbackInterpretation;
+                }));
+    }
+
+    private Mono<String> callCardModel(String sessionId, int position, List<ChatMessage> messages) {
+        if (mockEnabled) {
+            return blocking(() -> mockAiService.interpretWithConversation(messages));
+        }
+        if (!openAIConfig.isStreaming()) {
+            return openAIClient.interpretWithConversationAsync(messages);
+        }
+
+        // 조각마다 card_delta 전송, 첫 조각 전에 실패/빈 응답이면 일반 호출로 재시도
+        StringBuilder interpretation = new StringBuilder();
+        return openAIClient.streamWithConversation(messages)
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(delta -> {
+                    interpretation.append(delta);
+                    sseManager.sendCardDeltaEvent(sessionId, position, delta);
+                })
+                .then(Mono.fromSupplier(interpretation::toString))
+                // 요청을 보내지도 못한 경우(회로 열림 / 호출 대기 초과)는 재시도하지 않고 upstream_unavailable + fallback으로
+                .onErrorResume(e -> interpretation.length() == 0 && UpstreamUnavailableException.find(e) == null, e -> {
+                    logger.warn("스트리밍 해석 실패, 일반 호출로 재시도 - 세션: {}, 위치: {}, 에러: {}",
+                            sessionId, position, e.getMessage());
+                    return Mono.just("");
+                })
+                .filter(text -> !text.isEmpty())
+                .switchIfEmpty(Mono.defer(() -> openAIClient.interpretWithConversationAsync(messages)));
+    }
+
+    /**
+     * 저장된 총평이 있으면 그대로 사용 (재시작 후 이어서 처리하는 경우)
+     */
+    private Mono<String> summaryOrSaved(TaroReading taroReading, String prompt) {
+        String saved = taroReading.getInterpretation();
+        return saved != null ? Mono.just(saved) : generateSummaryReactive(prompt);
+    }
+
+    private Mono<String> generateSummaryReactive(String prompt) {
+        Mono<String> summary = mockEnabled
+                ? blocking(() -> mockAiService.generateSummaryText(prompt))
+                : openAIClient.generateSummaryTextAsync(prompt);
+        return summary.onErrorResume(e -> {
+            logger.error("총평 생성 실패: {}", e.getMessage(), e);
+            return Mono.just("세 카드가 합쳐져 당신의 앞날에 대한 희망과 안내의 메시지를 전합니다. 그들이 주는 지혜를 신뢰하세요.");
+        });
+    }
+
+    private Mono<String> generateLuckyCardMessageReactive(Integer luckyCardId,
+            Function<LuckyCard, String> promptFactory) {
+        String defaultMessage = "오늘 하루도 행복하고 좋은 일만 가득하세요!";
+        return blocking(() -> referenceDataService.findLuckyCardById(luckyCardId))
+                .flatMap(found -> found
+                        .map(luckyCard -> blocking(() -> promptFactory.apply(luckyCard))
+                                .flatMap(prompt -> mockEnabled
+                                        ? blocking(() -> mockAiService.generateLuckyCardMessage(prompt))
+                                        : openAIClient.generateLuckyCardMessageAsync(prompt))
+                                .onErrorResume(e -> {
+                                    logger.error("행운카드 메시지 재해석 실패: {}", e.getMessage(), e);
+                                    return Mono.just(luckyCard.getMessage());
+                                }))
+                        .orElseGet(() -> Mono.just(defaultMessage)))
+                .onErrorResume(e -> {
+                    logger.error("행운카드 조회 실패: {}", e.getMessage(), e);
+                    return Mono.just(defaultMessage);
+                });
+    }
+
+    /**
+     * DB 접근 등 블로킹 작업을 boundedElastic에서 실행
+     */
+    private static <T> Mono<T> blocking(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 대화 컨텍스트를 활용한 카드 해석 - 이미 저장된 해석(saved)이 있으면 대화 기록만 복원
      */
     private String interpretCardWithConversation(String sessionId, DrawnCard drawnCard,
-            SubmitRequest request, String timeFrame, List<ChatMessage> conversationHistory) {
+            SubmitRequest request, String timeFrame, List<ChatMessage> conversationHistory, String saved) {
+        if (saved != null) {
+            restoreConversation(drawnCard, request, timeFrame, conversationHistory, saved);
+            return saved;
+        }
+        // lease를 잃었으면 여기서 LeaseLostException - fallback으로 삼키지 않도록 try 밖에서 호출
+        progressTracker.processing(sessionId, getProcessingStatusForTimeFrame(timeFrame, true),
+                timeFrame + " 카드를 해석하고 있습니다...");
         try {
-            updateProcessingStatus(sessionId, getProcessingStatusForTimeFrame(timeFrame, true));
-            sseManager.sendStatusEvent(sessionId, timeFrame.toUpperCase() + "_PROCESSING",
-                    timeFrame + " 카드를 해석하고 있습니다...", getProgressForTimeFrame(timeFrame));
+            // 기본 해석 라이브러리 사용 (ai.library.mode=personalize) - 질문에 맞춘 한두 문장만 생성
+            String base = personalizationBase(drawnCard, request);
+            if (base != null) {
+                String interpretation = personalize(sessionId, base, drawnCard, request, timeFrame);
+                restoreConversation(drawnCard, request, timeFrame, conversationHistory, interpretation);
+                return interpretation;
+            }
 
             // 이전 해석이 있는지 확인 (과거가 아닌 경우)
             boolean hasPreviousContext = !timeFrame.equals(ValidationConstants.TIMEFRAME_PAST);
@@ -176,20 +572,12 @@ public class TaroAiService {
             conversationHistory.add(new ChatMessage("user", cardPrompt));
 
             // AI API 호출 (대화 컨텍스트 포함) - Mock 모드 지원
-            String interpretation;
-            if (mockEnabled) {
-                logger.info("🎭 Mock 모드: {} 카드 해석 생성 중...", timeFrame);
-                interpretation = mockAiService.interpretWithConversation(conversationHistory);
-            } else {
-                interpretation = openAIClient.interpretWithConversation(conversationHistory);
-            }
+            String interpretation = callCardModelBlocking(sessionId, drawnCard.getPosition(), timeFrame,
+                    conversationHistory);
 
             // 대화 기록에 AI 응답 추가 (다음 카드 해석을 위해)
             conversationHistory.add(new ChatMessage("assistant", interpretation));
 
-            // 해석 완료 (DrawnCard에는 저장하지 않음)
-            drawnCardRepository.save(drawnCard);
-
             logger.info("대화 기반 카드 해석 완료 - 세션: {}, 시점: {}, 카드: {}", sessionId, timeFrame,
                     drawnCard.getCardId());
             return interpretation;
@@ -197,10 +585,8 @@ public class TaroAiService {
         } catch (Exception e) {
             logger.error("대화 기반 카드 해석 실패 - 세션: {}, 시점: {}, 에러: {}", sessionId, timeFrame,
                     e.getMessage(), e);
-            String fallbackInterpretation =
-                    "이 " + timeFrame + " 카드 해석 중 문제가 발생했지만, 우주는 여전히 당신을 앞으로 안내합니다.";
-            // fallback 처리 완료 (DrawnCard에는 저장하지 않음)
-            drawnCardRepository.save(drawnCard);
+            notifyIfUpstreamUnavailable(sessionId, drawnCard.getPosition(), e);
+            String fallbackInterpretation = cardFallback(drawnCard, request, timeFrame);
 
             // 실패한 경우에도 대화 기록에 추가 (일관성 유지)
             conversationHistory.add(new ChatMessage("assistant", fallbackInterpretation));
@@ -209,6 +595,153 @@ public class TaroAiService {
         }
     }
 
+    /**
+     * 회로 차단 / 동시 호출 한도로 호출을 생략한 경우 upstream_unavailable 전송 (해석은 fallback으로 계속 진행)
+     */
+    private void notifyIfUpstreamUnavailable(String sessionId, int position, Throwable error) {
+        UpstreamUnavailableException unavailable = UpstreamUnavailableException.find(error);
+        if (unavailable != null) {
+            sseManager.sendUpstreamUnavailableEvent(sessionId, unavailable.getUpstream(), position,
+                    unavailable.getRetryAfterSeconds());
+        }
+    }
+
+    /**
+     * 카드 해석 실패 시 대체 문구 - 라이브러리에 기본 해석이 있으면 사용 (ai.library.mode=off면 고정 문구)
+     */
+    private String cardFallback(DrawnCard drawnCard, SubmitRequest request, String timeFrame) {
+        return interpretationLibrary.find(drawnCard, request.getReaderType())
+                .orElse("이 " + timeFrame + " 카드 해석 중 문제가 발생했지만, 우주는 여전히 당신을 앞으로 안내합니다.");
+    }
+
+    /**
+     * personalize 모드에서 사용할 기본 해석 (모드가 다르거나 생성되지 않은 조합이면 null)
+     */
+    private String personalizationBase(DrawnCard drawnCard, SubmitRequest request) {
+        if (!interpretationLibrary.isPersonalize()) {
+            return null;
+        }
+        return interpretationLibrary.find(drawnCard, request.getReaderType()).orElse(null);
+    }
+
+    /**
+     * 기본 해석 + 질문에 맞춘 한두 문장 (블로킹) - 생성에 실패하면 기본 해석만 반환
+     */
+    private String personalize(String sessionId, String base, DrawnCard drawnCard, SubmitRequest request,
+            String timeFrame) {
+        try {
+            List<ChatMessage> messages = personalizationMessages(base, request, timeFrame);
+            String suffix = mockEnabled
+                    ? mockAiService.interpretWithConversation(messages)
+                    : openAIClient.interpretWithConversation(messages);
+            return withSuffix(base, suffix);
+        } catch (Exception e) {
+            logger.warn("기본 해석 개인화 실패, 기본 해석만 사용 - 세션: {}, 시점: {}, 에러: {}", sessionId, timeFrame,
+                    e.getMessage());
+            notifyIfUpstreamUnavailable(sessionId, drawnCard.getPosition(), e);
+            return base;
+        }
+    }
+
+    /**
+     * 기본 해석 + 질문에 맞춘 한두 문장 (논블로킹) - 생성에 실패하면 기본 해석만 반환
+     */
+    private Mono<String> personalizeReactive(String sessionId, String base, DrawnCard drawnCard,
+            SubmitRequest request, String timeFrame) {
+        return blocking(() -> personalizationMessages(base, request, timeFrame))
+                .flatMap(messages -> mockEnabled
+                        ? blocking(() -> mockAiService.interpretWithConversation(messages))
+                        : openAIClient.interpretWithConversationAsync(messages))
+                .map(suffix -> withSuffix(base, suffix))
+                .onErrorResume(e -> blocking(() -> {
+                    logger.warn("기본 해석 개인화 실패, 기본 해석만 사용 - 세션: {}, 시점: {}, 에러: {}", sessionId,
+                            timeFrame, e.getMessage());
+                    notifyIfUpstreamUnavailable(sessionId, drawnCard.getPosition(), e);
+                    return base;
+                }));
+    }
+
+    private List<ChatMessage> personalizationMessages(String base, SubmitRequest request, String timeFrame) {
+        String prompt = "상담 정보:\n" +
+                "- 카테고리: " + referenceDataService.getCategoryName(request.getCategoryCode()) + "\n" +
+                "- 주제: " + referenceDataService.getTopicName(request.getTopicCode()) + "\n" +
+                "- 질문: \"" + request.getQuestionText() + "\"\n\n" +
+                "아래는 " + timeFrame + " 카드의 기본 해석입니다:\n" + base + "\n\n" +
+                "기본 해석을 반복하지 말고, 이 해석을 질문 상황에 연결하는 말을 같은 말투로 한두 문장만 이어서 써주세요.";
+        return List.of(
+                new ChatMessage("system", readerPersonaService.getSystemPrompt(request.getReaderType())),
+                new ChatMessage("user", prompt));
+    }
+
+    private static String withSuffix(String base, String suffix) {
+        if (suffix == null || suffix.isBlank()) {
+            return base;
+        }
+        return base + "\n\n" + suffix.trim();
+    }
+
+    /**
+     * 저장된 카드 해석을 대화 기록에 다시 넣음 (다음 카드가 같은 컨텍스트로 이어지도록)
+     */
+    private void restoreConversation(DrawnCard drawnCard, SubmitRequest request, String timeFrame,
+            List<ChatMessage> conversationHistory, String saved) {
+        boolean hasPreviousContext = !timeFrame.equals(ValidationConstants.TIMEFRAME_PAST);
+        conversationHistory.add(new ChatMessage("user",
+                buildCardPromptWithContext(drawnCard, request, timeFrame, hasPreviousContext)));
+        conversationHistory.add(new ChatMessage("assistant", saved));
+    }
+
+    /**
+     * 이미 저장된 과거/현재/미래 해석 (없는 자리는 null)
+     */
+    private static List<String> savedInterpretations(TaroReading taroReading) {
+        return Arrays.asList(taroReading.getPastInterpretation(), taroReading.getPresentInterpretation(),
+                taroReading.getFutureInterpretation());
+    }
+
+    /**
+     * 카드 해석 모델 호출 (블로킹) - Mock / 스트리밍 / 일반 호출 선택
+     */
+    private String callCardModelBlocking(String sessionId, int position, String timeFrame,
+            List<ChatMessage> messages) {
+        if (mockEnabled) {
+            logger.info("🎭 Mock 모드: {} 카드 해석 생성 중...", timeFrame);
+            return mockAiService.interpretWithConversation(messages);
+        }
+        if (openAIConfig.isStreaming()) {
+            return streamInterpretation(sessionId, position, messages);
+        }
+        return openAIClient.interpretWithConversation(messages);
+    }
+
+    /**
+     * 카드 해석을 스트리밍으로 받으면서 조각마다 card_delta 이벤트 전송
+     * 첫 조각 전에 실패하면 일반 호출로 재시도, 중간에 끊기면 예외를 던져 fallback 처리
+     */
+    private String streamInterpretation(String sessionId, int position, List<ChatMessage> conversationHistory) {
+        StringBuilder interpretation = new StringBuilder();
+        try {
+            openAIClient.streamWithConversation(conversationHistory)
+                    .doOnNext(delta -> {
+                        interpretation.append(delta);
+                        sseManager.sendCardDeltaEvent(sessionId, position, delta);
+                    })
+                    .blockLast();
+        } catch (Exception e) {
+            if (interpretation.length() > 0 || UpstreamUnavailableException.find(e) != null) {
+                throw e;
+            }
+            logger.warn("스트리밍 해석 실패, 일반 호출로 재시도 - 세션: {}, 위치: {}, 에러: {}",
+                    sessionId, position, e.getMessage());
+            return openAIClient.interpretWithConversation(conversationHistory);
+        }
+
+        if (interpretation.length() == 0) {
+            return openAIClient.interpretWithConversation(conversationHistory);
+        }
+        return interpretation.toString();
+    }
+
     /**
      * 컨텍스트를 고려한 카드 프롬프트 생성
      */
@@ -224,28 +757,9 @@ public class TaroAiService {
 
         // 카드 정보 추가
         try {
-            TaroCardEntity cardEntity =
-                    taroCardRepository.findById(Long.valueOf(drawnCard.getCardId())).orElseThrow(
-                            () -> new RuntimeException("Card not found: " + drawnCard.getCardId()));
-
-            String orientation =
-                    drawnCard.getOrientation() == DrawnCard.Orientation.upright ? "정방향" : "역방향";
-            prompt.append("해석할 카드:\n");
-            prompt.append("- 카드명: ").append(cardEntity.getNameKo()).append(" (")
-                    .append(cardEntity.getNameEn()).append(")\n");
-            prompt.append("- 방향: ").append(orientation).append("\n");
-            prompt.append("- 시점: ").append(timeFrame).append("\n");
-
-            String meaning = drawnCard.getOrientation() == DrawnCard.Orientation.upright
-                    ? cardEntity.getMeaningUpright()
-                    : cardEntity.getMeaningReversed();
-            prompt.append("- 기본 의미: ").append(meaning).append("\n\n");
-
-            // 상징적 해석 가이드 추가
-            String symbolicPrompt = readerPersonaService.getSymbolicInterpretationPrompt(
-                    request.getReaderType(), timeFrame, cardEntity.getNameKo(), orientation);
-            prompt.append("상징적 해석 가이드:\n").append(symbolicPrompt).append("\n\n");
-
+            TaroCardCatalog.Card cardEntity = taroCardCatalog.findById(drawnCard.getCardId())
+                    .orElseThrow(() -> new RuntimeException("Card not found: " + drawnCard.getCardId()));
+            appendCardSection(prompt, cardEntity, drawnCard.getOrientation(), timeFrame, request.getReaderType());
         } catch (Exception e) {
             prompt.append("카드 정보: ").append(timeFrame).append(" 카드\n\n");
             // 카드 정보를 가져올 수 없는 경우 기본 상징적 프롬프트 추가
@@ -266,6 +780,43 @@ public class TaroAiService {
         return prompt.toString();
     }
 
+    /**
+     * 질문 없이 카드 x 방향 x 시점 x 리더 타입만으로 만드는 기본 해석 프롬프트 (CardInterpretationGenerator)
+     */
+    public String buildLibraryCardPrompt(TaroCardCatalog.Card card, DrawnCard.Orientation orientation,
+            String timeFrame, String readerType) {
+        StringBuilder prompt = new StringBuilder();
+        appendCardSection(prompt, card, orientation, timeFrame, readerType);
+        prompt.append(readerPersonaService.getCardPrompt(readerType, timeFrame, false));
+        prompt.append("\n\n특정 질문 없이, 이 카드가 ").append(timeFrame)
+                .append(" 자리에서 전하는 핵심 메시지를 누구에게나 통하도록 담아주세요. ")
+                .append(getResponseFormatInstruction(readerType));
+        return prompt.toString();
+    }
+
+    /**
+     * 카드명 / 방향 / 시점 / 기본 의미 + 상징적 해석 가이드
+     */
+    private void appendCardSection(StringBuilder prompt, TaroCardCatalog.Card cardEntity,
+            DrawnCard.Orientation cardOrientation, String timeFrame, String readerType) {
+        String orientation = cardOrientation == DrawnCard.Orientation.upright ? "정방향" : "역방향";
+        prompt.append("해석할 카드:\n");
+        prompt.append("- 카드명: ").append(cardEntity.getNameKo()).append(" (")
+                .append(cardEntity.getNameEn()).append(")\n");
+        prompt.append("- 방향: ").append(orientation).append("\n");
+        prompt.append("- 시점: ").append(timeFrame).append("\n");
+
+        String meaning = cardOrientation == DrawnCard.Orientation.upright
+                ? cardEntity.getMeaningUpright()
+                : cardEntity.getMeaningReversed();
+        prompt.append("- 기본 의미: ").append(meaning).append("\n\n");
+
+        // 상징적 해석 가이드 추가
+        String symbolicPrompt = readerPersonaService.getSymbolicInterpretationPrompt(
+                readerType, timeFrame, cardEntity.getNameKo(), orientation);
+        prompt.append("상징적 해석 가이드:\n").append(symbolicPrompt).append("\n\n");
+    }
+
     /**
      * 리더 타입별 응답 형식 지시사항 생성
      */
@@ -303,9 +854,8 @@ public class TaroAiService {
     private String interpretCard(String sessionId, DrawnCard drawnCard, SubmitRequest request,
             String timeFrame) {
         try {
-            updateProcessingStatus(sessionId, getProcessingStatusForTimeFrame(timeFrame, true));
-            sseManager.sendStatusEvent(sessionId, timeFrame.toUpperCase() + "_PROCESSING",
-                    timeFrame + " 카드를 해석하고 있습니다...", getProgressForTimeFrame(timeFrame));
+            progressTracker.processing(sessionId, getProcessingStatusForTimeFrame(timeFrame, true),
+                    timeFrame + " 카드를 해석하고 있습니다...");
 
             String prompt = promptService.createCardPrompt(drawnCard, request, timeFrame);
             String interpretation = openAIClient.interpretCardText(prompt);
@@ -351,18 +901,22 @@ public class TaroAiService {
      * 행운카드 메시지 AI 재해석
      */
     private String generateLuckyCardMessage(String summary, Integer luckyCardId, SubmitRequest request) {
+        // 행운카드 재해석 프롬프트 생성
+        return generateLuckyCardMessage(luckyCardId, luckyCard -> promptService.createLuckyCardPrompt(
+                summary,
+                luckyCard.getName(),  // 음료 이름
+                luckyCard.getMessage(),  // 기존 메시지
+                request
+        ));
+    }
+
+    private String generateLuckyCardMessage(Integer luckyCardId, Function<LuckyCard, String> promptFactory) {
         try {
             // 행운카드 정보 조회
             return referenceDataService.findLuckyCardById(luckyCardId)
                     .map(luckyCard -> {
                         try {
-                            // 행운카드 재해석 프롬프트 생성
-                            String prompt = promptService.createLuckyCardPrompt(
-                                    summary,
-                                    luckyCard.getName(),  // 음료 이름
-                                    luckyCard.getMessage(),  // 기존 메시지
-                                    request
-                            );
+                            String prompt = promptFactory.apply(luckyCard);
 
                             if (mockEnabled) {
                                 logger.info("🎭 Mock 모드: 행운카드 메시지 재해석 중...");
@@ -457,17 +1011,6 @@ public class TaroAiService {
         return Math.max(80, Math.min(100, score));
     }
 
-    /**
-     * 처리 상태 업데이트
-     */
-    private void updateProcessingStatus(String sessionId, TaroSession.ProcessingStatus status) {
-        TaroSession session = taroSessionRepository.findById(sessionId).orElse(null);
-        if (session != null) {
-            session.setProcessingStatus(status);
-            taroSessionRepository.save(session);
-        }
-    }
-
     /**
      * 시간대별 처리 상태 반환
      */
@@ -488,20 +1031,4 @@ public class TaroAiService {
         }
     }
 
-    /**
-     * 시간대별 진행률 반환
-     */
-    private Integer getProgressForTimeFrame(String timeFrame) {
-        switch (timeFrame) {
-            case ValidationConstants.TIMEFRAME_PAST:
-                return 20;
-            case ValidationConstants.TIMEFRAME_PRESENT:
-                return 40;
-            case ValidationConstants.TIMEFRAME_FUTURE:
-                return 60;
-            default:
-                return 0;
-        }
-    }
-
 }
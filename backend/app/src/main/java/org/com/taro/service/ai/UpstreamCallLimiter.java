@@ -0,0 +1,120 @@
+package org.com.taro.service.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.com.taro.exception.UpstreamUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Caps concurrent LLM chat requests on this node
+ * 가상 스레드 모드에서는 스레드 풀이 동시 호출 수를 제한하지 않으므로 세마포어로 직접 제한
+ *
+ * 허가는 HTTP 요청 한 번(시도 한 번) 단위 - UpstreamRetryPolicy 안쪽에 두므로 재시도 백오프 / Retry-After 대기 중에는
+ * 자리를 차지하지 않음. 자리가 날 때까지 최대 acquireTimeoutMs 기다리고, 넘으면 UpstreamUnavailableException(QUEUE_TIMEOUT)
+ */
+@Component
+public class UpstreamCallLimiter {
+
+    private final Semaphore permits;
+    private final int maxConcurrentCalls;
+    private final long acquireTimeoutMs;
+    private final Counter queueTimeouts;
+
+    // 허가를 기다리는 동안만 쓰는 가상 스레드 (재시도 지연 스레드나 boundedElastic을 막지 않도록)
+    private final Scheduler waitScheduler =
+            Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "UpstreamPermitWait");
+
+    public UpstreamCallLimiter(MeterRegistry meterRegistry,
+                               @Value("${ai.upstream.max-concurrent-calls:32}") int maxConcurrentCalls,
+                               @Value("${ai.upstream.acquire-timeout-ms:30000}") long acquireTimeoutMs) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("ai.upstream.max-concurrent-calls must be positive: " + maxConcurrentCalls);
+        }
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+
+        Gauge.builder("ai.upstream.limiter.available", permits, Semaphore::availablePermits)
+                .description("Remaining node-wide LLM call permits")
+                .register(meterRegistry);
+        this.queueTimeouts = Counter.builder("ai.upstream.rejected")
+                .description("Upstream calls failed fast without being sent")
+                .tag("upstream", "chat")
+                .tag("reason", "queue_timeout")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시도 한 번을 허용량 안에서 실행 - Mono.transform으로 사용 (응답 / 실패 / 취소 시 바로 허가 반납)
+     */
+    public <T> Function<Mono<T>, Mono<T>> limit(String upstream) {
+        return call -> Mono.usingWhen(acquire(upstream), permit -> call,
+                UpstreamCallLimiter::release, (permit, error) -> release(permit), UpstreamCallLimiter::release);
+    }
+
+    /**
+     * 스트리밍 호출 - 스트림이 끝날 때까지 허가 유지 (스트리밍은 재시도하지 않음)
+     */
+    public <T> Function<Flux<T>, Flux<T>> limitStream(String upstream) {
+        return call -> Flux.usingWhen(acquire(upstream), permit -> call,
+                UpstreamCallLimiter::release, (permit, error) -> release(permit), UpstreamCallLimiter::release);
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        waitScheduler.dispose();
+    }
+
+    private Mono<Permit> acquire(String upstream) {
+        return Mono.fromCallable(() -> {
+                    if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        queueTimeouts.increment();
+                        throw new UpstreamUnavailableException(upstream,
+                                UpstreamUnavailableException.Reason.QUEUE_TIMEOUT, 1);
+                    }
+                    return new Permit();
+                })
+                .subscribeOn(waitScheduler)
+                // 자리를 얻은 직후 취소되면 값이 버려지므로 그때 반납
+                .doOnDiscard(Permit.class, Permit::release);
+    }
+
+    private static Mono<Void> release(Permit permit) {
+        return Mono.fromRunnable(permit::release);
+    }
+
+    /**
+     * 허가 한 건 - 한 번만 반납
+     */
+    private final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package org.com.taro.service.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.com.taro.exception.UpstreamUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker + bulkhead for one upstream endpoint (UpstreamGuards에서 생성)
+ *
+ * - CLOSED: 최근 slidingWindowSize건 중 실패(5xx / 429 / 타임아웃 / 연결 실패) 비율이 임계치를 넘으면 OPEN
+ * - OPEN: openDuration 동안 호출을 보내지 않고 바로 UpstreamUnavailableException (호출하는 쪽은 fallback)
+ * - HALF_OPEN: openDuration이 지나면 halfOpenProbes건만 시험 호출 - 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * - bulkhead: 업스트림별 동시 호출 수 상한, 넘으면 기다리지 않고 바로 실패
+ *
+ * 재시도(UpstreamRetryPolicy)는 이 guard 바깥에 두므로 시도마다 기록되고, 회로가 열리면 남은 재시도도 멈춤
+ */
+public class UpstreamGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamGuard.class);
+
+    enum State {
+        CLOSED(0), HALF_OPEN(1), OPEN(2);
+
+        private final int gaugeValue;
+
+        State(int gaugeValue) {
+            this.gaugeValue = gaugeValue;
+        }
+    }
+
+    private final String name;
+    private final Semaphore bulkhead;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final Duration openDuration;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+
+    // 아래 상태는 모두 this로 보호
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+    private State state = State.CLOSED;
+    private long openUntilNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadRejections;
+
+    UpstreamGuard(String name, int maxConcurrentCalls, int failureRateThreshold, int slidingWindowSize,
+                  int minimumCalls, Duration openDuration, int halfOpenProbes, MeterRegistry meterRegistry) {
+        this(name, maxConcurrentCalls, failureRateThreshold, slidingWindowSize, minimumCalls, openDuration,
+                halfOpenProbes, meterRegistry, System::nanoTime);
+    }
+
+    UpstreamGuard(String name, int maxConcurrentCalls, int failureRateThreshold, int slidingWindowSize,
+                  int minimumCalls, Duration openDuration, int halfOpenProbes, MeterRegistry meterRegistry,
+                  LongSupplier nanoClock) {
+        this.name = name;
+        this.nanoClock = nanoClock;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+        this.openDuration = openDuration;
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.window = new boolean[slidingWindowSize];
+
+        Gauge.builder("ai.upstream.circuit.state", this, guard -> guard.getState().gaugeValue)
+                .description("Circuit state (0=closed, 1=half-open, 2=open)")
+                .tag("upstream", name)
+                .register(meterRegistry);
+        Gauge.builder("ai.upstream.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("Remaining concurrent call slots")
+                .tag("upstream", name)
+                .register(meterRegistry);
+        this.circuitOpenRejections = Counter.builder("ai.upstream.rejected")
+                .description("Upstream calls failed fast without being sent")
+                .tag("upstream", name)
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        this.bulkheadRejections = Counter.builder("ai.upstream.rejected")
+                .description("Upstream calls failed fast without being sent")
+                .tag("upstream", name)
+                .tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Mono 호출 보호 - Mono.transform으로 사용 (구독할 때마다 허가를 받음)
+     */
+    public <T> Function<Mono<T>, Mono<T>> protect() {
+        return call -> Mono.defer(() -> {
+            Permit permit;
+            try {
+                permit = acquire();
+            } catch (UpstreamUnavailableException e) {
+                return Mono.error(e);
+            }
+            return call
+                    .doOnSuccess(value -> permit.succeeded())
+                    .doOnError(permit::failed)
+                    .doOnCancel(permit::cancelled);
+        });
+    }
+
+    /**
+     * 스트리밍 호출 보호 - 스트림이 끝까지 오면 성공
+     */
+    public <T> Function<Flux<T>, Flux<T>> protectStream() {
+        return call -> Flux.defer(() -> {
+            Permit permit;
+            try {
+                permit = acquire();
+            } catch (UpstreamUnavailableException e) {
+                return Flux.error(e);
+            }
+            return call
+                    .doOnComplete(permit::succeeded)
+                    .doOnError(permit::failed)
+                    .doOnCancel(permit::cancelled);
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && nanoClock.getAsLong() >= openUntilNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private Permit acquire() {
+        boolean probe;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                long remaining = openUntilNanos - nanoClock.getAsLong();
+                if (remaining > 0) {
+                    circuitOpenRejections.increment();
+                    throw unavailable(UpstreamUnavailableException.Reason.CIRCUIT_OPEN, remaining);
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            probe = state == State.HALF_OPEN;
+            if (probe) {
+                if (probesInFlight >= halfOpenProbes) {
+                    circuitOpenRejections.increment();
+                    throw unavailable(UpstreamUnavailableException.Reason.CIRCUIT_OPEN, 0);
+                }
+                probesInFlight++;
+            }
+        }
+
+        if (!bulkhead.tryAcquire()) {
+            if (probe) {
+                synchronized (this) {
+                    probesInFlight--;
+                }
+            }
+            bulkheadRejections.increment();
+            throw unavailable(UpstreamUnavailableException.Reason.BULKHEAD_FULL, 0);
+        }
+        return new Permit(probe);
+    }
+
+    private synchronized void onResult(boolean probe, boolean success) {
+        if (probe) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            probesInFlight--;
+            if (!success) {
+                open();
+            } else if (++probeSuccesses >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+
+        // 회로가 열리기 전에 시작한 호출의 결과는 반영하지 않음
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (windowCount == window.length && window[windowIndex]) {
+            windowFailures--;
+        }
+        window[windowIndex] = !success;
+        if (!success) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+        windowCount = Math.min(windowCount + 1, window.length);
+
+        if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+            logger.warn("{} 회로 열림 - 최근 {}건 중 {}건 실패", name, windowCount, windowFailures);
+            open();
+        }
+    }
+
+    private synchronized void onCancel(boolean probe) {
+        if (probe && state == State.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    private void open() {
+        openUntilNanos = nanoClock.getAsLong() + openDuration.toNanos();
+        transitionTo(State.OPEN);
+    }
+
+    private void transitionTo(State next) {
+        if (state != next) {
+            logger.info("{} 회로 상태 {} -> {}", name, state, next);
+        }
+        state = next;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+
+    private UpstreamUnavailableException unavailable(UpstreamUnavailableException.Reason reason,
+                                                     long remainingNanos) {
+        long retryAfterSeconds = Math.max(1, Duration.ofNanos(remainingNanos).toSeconds());
+        return new UpstreamUnavailableException(name, reason, retryAfterSeconds);
+    }
+
+    /**
+     * 5xx / 429 / 타임아웃 / 연결 실패만 회로 실패로 집계 (그 외 4xx는 업스트림이 응답한 것이므로 성공으로 봄)
+     */
+    private static boolean isUpstreamFailure(Throwable error) {
+        return UpstreamRetryPolicy.classify(error).isRetryable();
+    }
+
+    /**
+     * 호출 한 건의 허가 - 결과는 한 번만 반영하고 bulkhead 자리를 돌려줌
+     */
+    private final class Permit {
+
+        private final boolean probe;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Permit(boolean probe) {
+            this.probe = probe;
+        }
+
+        void succeeded() {
+            if (done.compareAndSet(false, true)) {
+                bulkhead.release();
+                onResult(probe, true);
+            }
+        }
+
+        void failed(Throwable error) {
+            if (done.compareAndSet(false, true)) {
+                bulkhead.release();
+                onResult(probe, !isUpstreamFailure(error));
+            }
+        }
+
+        void cancelled() {
+            if (done.compareAndSet(false, true)) {
+                bulkhead.release();
+                onCancel(probe);
+            }
+        }
+    }
+}
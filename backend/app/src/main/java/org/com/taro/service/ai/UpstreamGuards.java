@@ -0,0 +1,65 @@
+package org.com.taro.service.ai;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Per-upstream circuit breakers and bulkheads
+ * - chat: GMS /chat/completions (카드 해석, 총평, 행운카드 메시지, 스트리밍 해석)
+ * - speech: GMS /audio/speech (TTS)
+ * - images: GMS /images/generations
+ * - gemini: Gemini generateContent (조언 이미지)
+ *
+ * 회로 설정(ai.circuit.*)은 공통, 동시 호출 상한(ai.bulkhead.*)은 업스트림별
+ */
+@Component
+public class UpstreamGuards {
+
+    private final UpstreamGuard chat;
+    private final UpstreamGuard speech;
+    private final UpstreamGuard images;
+    private final UpstreamGuard gemini;
+
+    public UpstreamGuards(MeterRegistry meterRegistry,
+                          @Value("${ai.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+                          @Value("${ai.circuit.sliding-window-size:20}") int slidingWindowSize,
+                          @Value("${ai.circuit.minimum-calls:10}") int minimumCalls,
+                          @Value("${ai.circuit.open-seconds:30}") long openSeconds,
+                          @Value("${ai.circuit.half-open-probes:2}") int halfOpenProbes,
+                          @Value("${ai.bulkhead.chat:32}") int chatConcurrency,
+                          @Value("${ai.bulkhead.speech:16}") int speechConcurrency,
+                          @Value("${ai.bulkhead.images:4}") int imagesConcurrency,
+                          @Value("${ai.bulkhead.gemini:8}") int geminiConcurrency) {
+        if (slidingWindowSize <= 0) {
+            throw new IllegalArgumentException("ai.circuit.sliding-window-size must be positive: " + slidingWindowSize);
+        }
+        Duration openDuration = Duration.ofSeconds(openSeconds);
+        this.chat = new UpstreamGuard("chat", chatConcurrency, failureRateThreshold, slidingWindowSize,
+                minimumCalls, openDuration, halfOpenProbes, meterRegistry);
+        this.speech = new UpstreamGuard("speech", speechConcurrency, failureRateThreshold, slidingWindowSize,
+                minimumCalls, openDuration, halfOpenProbes, meterRegistry);
+        this.images = new UpstreamGuard("images", imagesConcurrency, failureRateThreshold, slidingWindowSize,
+                minimumCalls, openDuration, halfOpenProbes, meterRegistry);
+        this.gemini = new UpstreamGuard("gemini", geminiConcurrency, failureRateThreshold, slidingWindowSize,
+                minimumCalls, openDuration, halfOpenProbes, meterRegistry);
+    }
+
+    public UpstreamGuard chat() {
+        return chat;
+    }
+
+    public UpstreamGuard speech() {
+        return speech;
+    }
+
+    public UpstreamGuard images() {
+        return images;
+    }
+
+    public UpstreamGuard gemini() {
+        return gemini;
+    }
+}
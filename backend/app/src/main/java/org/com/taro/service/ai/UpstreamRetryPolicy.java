@@ -0,0 +1,231 @@
+package org.com.taro.service.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.PrematureCloseException;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Retry policy for upstream AI calls (GMS chat, Gemini)
+ * 실패 원인별로 재시도 여부를 정함
+ * - 429 / 503: Retry-After가 있으면 그만큼 기다림 (ai.retry.max-retry-after-ms보다 길면 재시도하지 않고 바로 fallback)
+ * - 5xx, 타임아웃, 연결 실패: full jitter 지수 백오프 (0 ~ min(max-backoff, initial-backoff * 2^n) 사이 임의 값)
+ * - 그 외 4xx, 응답 파싱 실패 등: 재시도하지 않음
+ *
+ * 노드 전체 재시도 예산 - 호출마다 budget-ratio만큼 적립하고 재시도마다 1씩 사용 (초당 budget-min-per-second는 항상 허용)
+ * 업스트림 장애 중에도 재시도가 요청량을 몇 배로 늘리지 않도록 함
+ */
+@Component
+public class UpstreamRetryPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamRetryPolicy.class);
+
+    enum Failure {
+        RATE_LIMITED(true),
+        SERVER_ERROR(true),
+        TIMEOUT(true),
+        CONNECTION(true),
+        CLIENT_ERROR(false),
+        OTHER(false);
+
+        private final boolean retryable;
+
+        Failure(boolean retryable) {
+            this.retryable = retryable;
+        }
+
+        boolean isRetryable() {
+            return retryable;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration maxRetryAfter;
+    private final RetryBudget budget;
+
+    public UpstreamRetryPolicy(MeterRegistry meterRegistry,
+                               @Value("${ai.retry.max-retries:2}") int maxRetries,
+                               @Value("${ai.retry.initial-backoff-ms:500}") long initialBackoffMs,
+                               @Value("${ai.retry.max-backoff-ms:8000}") long maxBackoffMs,
+                               @Value("${ai.retry.max-retry-after-ms:20000}") long maxRetryAfterMs,
+                               @Value("${ai.retry.budget-ratio:0.1}") double budgetRatio,
+                               @Value("${ai.retry.budget-min-per-second:1}") double budgetMinPerSecond) {
+        this.meterRegistry = meterRegistry;
+        this.maxRetries = maxRetries;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.maxRetryAfter = Duration.ofMillis(maxRetryAfterMs);
+        this.budget = new RetryBudget(budgetRatio, budgetMinPerSecond, System::nanoTime);
+    }
+
+    /**
+     * 호출 Mono에 재시도 적용 - Mono.transform으로 사용 (재시도는 구독할 때마다 요청을 다시 보냄)
+     */
+    public <T> Function<Mono<T>, Mono<T>> forUpstream(String upstream) {
+        return call -> Mono.defer(() -> {
+            budget.deposit();
+            return call.retryWhen(retrySpec(upstream));
+        });
+    }
+
+    private Retry retrySpec(String upstream) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable error = signal.failure();
+            long attempt = signal.totalRetries();
+            Failure failure = classify(error);
+
+            if (!failure.isRetryable()) {
+                count(upstream, "not_retryable", failure);
+                return Mono.error(error);
+            }
+            if (attempt >= maxRetries) {
+                count(upstream, "exhausted", failure);
+                return Mono.error(error);
+            }
+
+            Duration delay = retryAfter(error);
+            if (delay != null && delay.compareTo(maxRetryAfter) > 0) {
+                count(upstream, "retry_after_too_long", failure);
+                return Mono.error(error);
+            }
+            if (!budget.tryWithdraw()) {
+                count(upstream, "budget_exhausted", failure);
+                return Mono.error(error);
+            }
+            if (delay == null) {
+                delay = fullJitter(attempt);
+            }
+
+            count(upstream, "retried", failure);
+            logger.warn("{} 호출 재시도 {}/{} - 원인: {}, 대기: {}ms", upstream, attempt + 1, maxRetries, failure,
+                    delay.toMillis());
+            return Mono.delay(delay).thenReturn(attempt);
+        }));
+    }
+
+    static Failure classify(Throwable error) {
+        if (error instanceof WebClientResponseException httpError) {
+            int status = httpError.getStatusCode().value();
+            if (status == 429) {
+                return Failure.RATE_LIMITED;
+            }
+            if (status == 408) {
+                return Failure.TIMEOUT;
+            }
+            if (status >= 500) {
+                return Failure.SERVER_ERROR;
+            }
+            return Failure.CLIENT_ERROR;
+        }
+        if (error instanceof TimeoutException || error instanceof ReadTimeoutException) {
+            return Failure.TIMEOUT;
+        }
+        if (error instanceof WebClientRequestException || error instanceof PrematureCloseException
+                || error instanceof ConnectException) {
+            return error.getCause() instanceof ReadTimeoutException ? Failure.TIMEOUT : Failure.CONNECTION;
+        }
+        return Failure.OTHER;
+    }
+
+    /**
+     * Retry-After 헤더 (초 또는 HTTP 날짜) - 없거나 읽을 수 없으면 null
+     */
+    static Duration retryAfter(Throwable error) {
+        if (!(error instanceof WebClientResponseException httpError)) {
+            return null;
+        }
+        String value = httpError.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                Duration until = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return until.isNegative() ? Duration.ZERO : until;
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+
+    private Duration fullJitter(long attempt) {
+        long cap = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt, 20));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    private void count(String upstream, String outcome, Failure failure) {
+        Counter.builder("ai.upstream.retries")
+                .description("Upstream AI call failures by retry decision")
+                .tag("upstream", upstream)
+                .tag("outcome", outcome)
+                .tag("failure", failure.name().toLowerCase())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 노드 단위 재시도 예산 (토큰 버킷)
+     */
+    static final class RetryBudget {
+
+        private final double ratio;
+        private final double minPerSecond;
+        private final double maxBalance;
+        private final LongSupplier nanoClock;
+        private double balance;
+        private long lastRefillNanos;
+
+        RetryBudget(double ratio, double minPerSecond, LongSupplier nanoClock) {
+            this.ratio = ratio;
+            this.minPerSecond = minPerSecond;
+            this.maxBalance = Math.max(10, minPerSecond * 10);
+            this.nanoClock = nanoClock;
+            this.balance = maxBalance;
+            this.lastRefillNanos = nanoClock.getAsLong();
+        }
+
+        synchronized void deposit() {
+            refill();
+            balance = Math.min(maxBalance, balance + ratio);
+        }
+
+        synchronized boolean tryWithdraw() {
+            refill();
+            if (balance < 1) {
+                return false;
+            }
+            balance -= 1;
+            return true;
+        }
+
+        private void refill() {
+            long now = nanoClock.getAsLong();
+            balance = Math.min(maxBalance, balance + (now - lastRefillNanos) / 1e9 * minPerSecond);
+            lastRefillNanos = now;
+        }
+    }
+}
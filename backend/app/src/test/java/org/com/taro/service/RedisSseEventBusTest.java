@@ -0,0 +1,144 @@
+package org.com.taro.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 두 노드(버스 두 개)를 임베디드 Redis 하나에 붙여서 발행 → 수신 확인
+ */
+class RedisSseEventBusTest {
+
+    private static final String CHANNEL = "taro:sse-events:test";
+
+    private static RedisServer redisServer;
+    private static int port;
+
+    private final List<Runnable> cleanups = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @AfterEach
+    void closeNodes() {
+        cleanups.forEach(Runnable::run);
+    }
+
+    @Test void eventPublishedOnOneNodeIsDeliveredOnAnother() throws InterruptedException {
+        RedisSseEventBus publisher = node(new SimpleMeterRegistry());
+        RedisSseEventBus subscriber = node(new SimpleMeterRegistry());
+        BlockingQueue<SessionEvent> received = new LinkedBlockingQueue<>();
+        subscriber.subscribe(received::add);
+
+        SessionEvent event = new SessionEvent("AB12CD3", 42, "card_interpreted",
+                "{\"position\":1,\"interpretation\":\"과거\"}".getBytes(StandardCharsets.UTF_8));
+        SessionEvent delivered = publishUntilReceived(publisher, event, received);
+
+        assertEquals("AB12CD3", delivered.getSessionId());
+        assertEquals(42, delivered.getId());
+        assertEquals("card_interpreted", delivered.getEventType());
+        assertArrayEquals(event.getData(), delivered.getData());
+    }
+
+    @Test void eventsRejectedByTheSubscriberAreSkippedBeforeDecoding() throws InterruptedException {
+        RedisSseEventBus publisher = node(new SimpleMeterRegistry());
+        SimpleMeterRegistry subscriberMetrics = new SimpleMeterRegistry();
+        RedisSseEventBus subscriber = node(subscriberMetrics);
+        BlockingQueue<SessionEvent> received = new LinkedBlockingQueue<>();
+        // 이 노드에 연결이 없는 세션의 card_delta는 받지 않음 (SSEManager와 같은 조건)
+        subscriber.subscribe(received::add, (sessionId, eventType) -> !"card_delta".equals(eventType));
+
+        publishUntilReceived(publisher, new SessionEvent("AB12CD3", 1, "status_changed", new byte[0]), received);
+        received.clear();
+        publisher.publish(new SessionEvent("AB12CD3", 2, "card_delta", "{\"delta\":\"x\"}".getBytes(StandardCharsets.UTF_8)));
+        publisher.publish(new SessionEvent("AB12CD3", 3, "card_interpreted", "{}".getBytes(StandardCharsets.UTF_8)));
+
+        // 채널 안의 순서는 유지되므로 card_interpreted가 오면 card_delta는 이미 처리(생략)된 상태
+        SessionEvent next = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(next);
+        assertEquals("card_interpreted", next.getEventType());
+        assertTrue(received.isEmpty());
+        assertEquals(1.0, subscriberMetrics.counter("sse.bus.messages.skipped").count());
+    }
+
+    @Test void publishFailureIsCountedAndNotThrown() {
+        SimpleMeterRegistry metrics = new SimpleMeterRegistry();
+        RedisSseEventBus bus = node(metrics);
+        // 연결을 닫은 뒤 발행 - 예외 없이 실패 건수만 올라가야 함
+        cleanups.remove(cleanups.size() - 1).run();
+
+        assertDoesNotThrow(() -> bus.publish(new SessionEvent("AB12CD3", 1, "completed", new byte[0])));
+        assertEquals(1.0, metrics.counter("sse.bus.publish.failures").count());
+    }
+
+    private RedisSseEventBus node(SimpleMeterRegistry meterRegistry) {
+        LettuceConnectionFactory connectionFactory =
+                new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+
+        RedisSseEventBus bus = new RedisSseEventBus(template, container, meterRegistry, CHANNEL);
+        cleanups.add(() -> {
+            try {
+                container.destroy();
+            } catch (Exception ignored) {
+                // 테스트 정리 중 실패는 무시
+            }
+            connectionFactory.destroy();
+        });
+        return bus;
+    }
+
+    /**
+     * 구독이 Redis에 등록되기 전의 발행은 사라지므로 받을 때까지 다시 발행
+     */
+    private static SessionEvent publishUntilReceived(RedisSseEventBus publisher, SessionEvent event,
+                                                     BlockingQueue<SessionEvent> received) throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            publisher.publish(event);
+            SessionEvent delivered = received.poll(100, TimeUnit.MILLISECONDS);
+            if (delivered != null) {
+                return delivered;
+            }
+        }
+        fail("Event was not delivered through Redis");
+        return null;
+    }
+}
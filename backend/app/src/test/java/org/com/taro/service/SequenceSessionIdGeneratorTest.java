@@ -0,0 +1,98 @@
+package org.com.taro.service;
+
+import org.com.taro.exception.SessionIdUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SequenceSessionIdGeneratorTest {
+
+    private static final long START = 1_767_225_600L; // 2026-01-01T00:00:00Z
+    private static final int SEQUENCE_PER_SECOND = 32;
+    private static final int MAX_BORROW_SECONDS = 5;
+
+    @Test void borrowsFollowingSecondsWhenSequenceIsExhausted() {
+        AtomicLong clock = new AtomicLong(START);
+        SequenceSessionIdGenerator generator = generator(clock);
+        clock.addAndGet(MAX_BORROW_SECONDS);
+
+        // 시각이 그대로인 채로 한 초 분량의 여러 배를 발급 - 당겨 쓴 초로 모두 유일해야 함
+        Set<String> ids = issue(generator, SEQUENCE_PER_SECOND * (MAX_BORROW_SECONDS + 1));
+
+        assertEquals(SEQUENCE_PER_SECOND * (MAX_BORROW_SECONDS + 1), ids.size());
+    }
+
+    @Test void restartDoesNotReuseBorrowedSeconds() {
+        AtomicLong clock = new AtomicLong(START);
+        SequenceSessionIdGenerator beforeRestart = generator(clock);
+        clock.addAndGet(MAX_BORROW_SECONDS);
+        // 당겨 쓸 수 있는 만큼 모두 사용 (현재 시각 + MAX_BORROW_SECONDS초까지)
+        Set<String> issued = issue(beforeRestart, SEQUENCE_PER_SECOND * (MAX_BORROW_SECONDS + 1));
+
+        clock.incrementAndGet();
+        SequenceSessionIdGenerator afterRestart = generator(clock);
+        Set<String> reissued = issue(afterRestart, SEQUENCE_PER_SECOND);
+
+        reissued.retainAll(issued);
+        assertTrue(reissued.isEmpty(), "IDs issued before the restart were handed out again: " + reissued);
+    }
+
+    @Test void differentNodesNeverIssueTheSameId() {
+        AtomicLong clock = new AtomicLong(START);
+        SequenceSessionIdGenerator node0 = generator(clock, 0);
+        SequenceSessionIdGenerator node1 = generator(clock, 1);
+        clock.addAndGet(MAX_BORROW_SECONDS);
+
+        // 같은 시각에 두 노드가 시퀀스를 모두 쓰고 다음 초까지 당겨 써도 겹치지 않아야 함
+        int count = SEQUENCE_PER_SECOND * (MAX_BORROW_SECONDS + 1);
+        Set<String> fromNode0 = issue(node0, count);
+        Set<String> fromNode1 = issue(node1, count);
+
+        assertEquals(count, fromNode0.size());
+        assertEquals(count, fromNode1.size());
+        fromNode1.retainAll(fromNode0);
+        assertTrue(fromNode1.isEmpty(), "IDs issued by both nodes: " + fromNode1);
+    }
+
+    @Test void nodeIdIsRequiredWithRedisEventBus() {
+        assertThrows(IllegalStateException.class,
+                () -> new SequenceSessionIdGenerator(-1, "redis", 8, SEQUENCE_PER_SECOND, MAX_BORROW_SECONDS));
+    }
+
+    @Test void failsFastWhenBorrowLimitIsReachedAndRecoversWithTheClock() {
+        AtomicLong clock = new AtomicLong(START);
+        SequenceSessionIdGenerator generator = generator(clock);
+        clock.addAndGet(MAX_BORROW_SECONDS);
+        Set<String> issued = issue(generator, SEQUENCE_PER_SECOND * (MAX_BORROW_SECONDS + 1));
+
+        // 시계가 그대로면 더 당겨 쓸 초가 없음 - 대기하지 않고 바로 거절
+        assertThrows(SessionIdUnavailableException.class, generator::nextId);
+        assertThrows(SessionIdUnavailableException.class, generator::nextId);
+
+        clock.incrementAndGet();
+        Set<String> next = issue(generator, SEQUENCE_PER_SECOND);
+        assertEquals(SEQUENCE_PER_SECOND, next.size());
+        next.retainAll(issued);
+        assertTrue(next.isEmpty(), "IDs reissued after a rejected request: " + next);
+    }
+
+    private static SequenceSessionIdGenerator generator(AtomicLong clock) {
+        return generator(clock, 0);
+    }
+
+    private static SequenceSessionIdGenerator generator(AtomicLong clock, int nodeId) {
+        return new SequenceSessionIdGenerator(nodeId, 8, SEQUENCE_PER_SECOND, MAX_BORROW_SECONDS, clock::get);
+    }
+
+    private static Set<String> issue(SequenceSessionIdGenerator generator, int count) {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(generator.nextId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,63 @@
+package org.com.taro.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionEventTest {
+
+    @Test void roundTripKeepsHeaderAndBody() {
+        // 본문에 줄바꿈과 한글이 있어도 앞의 세 줄만 헤더로 읽어야 함
+        byte[] data = "{\"delta\":\"과거 카드는\\n\",\"raw\":\"a\nb\"}".getBytes(StandardCharsets.UTF_8);
+        SessionEvent event = new SessionEvent("AB12CD3", 1_760_000_000_000_123L, "card_delta", data);
+
+        SessionEvent decoded = SessionEvent.decode(bytes(event.encode()), (sessionId, eventType) -> true);
+
+        assertNotNull(decoded);
+        assertEquals("AB12CD3", decoded.getSessionId());
+        assertEquals(1_760_000_000_000_123L, decoded.getId());
+        assertEquals("card_delta", decoded.getEventType());
+        assertArrayEquals(data, decoded.getData());
+    }
+
+    @Test void emptyBodyIsAllowed() {
+        SessionEvent event = new SessionEvent("AB12CD3", 7, "completed", new byte[0]);
+
+        SessionEvent decoded = SessionEvent.decode(bytes(event.encode()), (sessionId, eventType) -> true);
+
+        assertNotNull(decoded);
+        assertEquals(0, decoded.getData().length);
+    }
+
+    @Test void rejectsMessagesWithoutThreeHeaderLines() {
+        assertThrows(IllegalArgumentException.class, () -> SessionEvent.decode(bytes(""), (s, t) -> true));
+        assertThrows(IllegalArgumentException.class, () -> SessionEvent.decode(bytes("AB12CD3"), (s, t) -> true));
+        assertThrows(IllegalArgumentException.class,
+                () -> SessionEvent.decode(bytes("AB12CD3\n1\ncompleted"), (s, t) -> true));
+    }
+
+    @Test void rejectsNonNumericId() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SessionEvent.decode(bytes("AB12CD3\nnot-a-number\ncompleted\n{}"), (s, t) -> true));
+    }
+
+    @Test void skipsBodyWhenNotAccepted() {
+        // 헤더만 읽고 거절 - id가 잘못돼 있어도 본문/ID를 해석하지 않으므로 예외 없이 null
+        String[] seen = new String[2];
+        SessionEvent decoded = SessionEvent.decode(bytes("AB12CD3\nnot-a-number\ncard_delta\n{\"delta\":\"x\"}"),
+                (sessionId, eventType) -> {
+                    seen[0] = sessionId;
+                    seen[1] = eventType;
+                    return false;
+                });
+
+        assertNull(decoded);
+        assertArrayEquals(new String[] {"AB12CD3", "card_delta"}, seen);
+    }
+
+    private static byte[] bytes(String message) {
+        return message.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,198 @@
+package org.com.taro.service.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.com.taro.exception.UpstreamUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamGuardTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test void staysClosedUntilMinimumCallsAreRecorded() {
+        UpstreamGuard guard = guard(4, 10, 5, 1);
+
+        for (int i = 0; i < 4; i++) {
+            fail(guard);
+        }
+        assertEquals(UpstreamGuard.State.CLOSED, guard.getState());
+
+        fail(guard);
+        assertEquals(UpstreamGuard.State.OPEN, guard.getState());
+    }
+
+    @Test void failureRateIsComputedOverTheSlidingWindow() {
+        UpstreamGuard guard = guard(4, 4, 4, 1);
+
+        // F S S S → 25%, S → 앞의 F가 창 밖으로 나가 0%
+        fail(guard);
+        succeed(guard);
+        succeed(guard);
+        succeed(guard);
+        succeed(guard);
+        fail(guard);
+        assertEquals(UpstreamGuard.State.CLOSED, guard.getState());
+
+        // 최근 4건 S S F F = 50% (누적으로는 3/7이라 열리지 않았을 것)
+        fail(guard);
+        assertEquals(UpstreamGuard.State.OPEN, guard.getState());
+    }
+
+    @Test void clientErrorsDoNotCountAsFailures() {
+        UpstreamGuard guard = guard(4, 4, 4, 1);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(WebClientResponseException.class, () -> call(guard,
+                    Mono.error(WebClientResponseException.create(400, "Bad Request", null, null, null))));
+        }
+
+        assertEquals(UpstreamGuard.State.CLOSED, guard.getState());
+    }
+
+    @Test void openCircuitRejectsWithoutSubscribing() {
+        UpstreamGuard guard = openGuard(4, 1);
+        AtomicBoolean subscribed = new AtomicBoolean();
+
+        UpstreamUnavailableException rejected = assertThrows(UpstreamUnavailableException.class,
+                () -> call(guard, Mono.fromCallable(() -> {
+                    subscribed.set(true);
+                    return "ok";
+                })));
+
+        assertEquals(UpstreamUnavailableException.Reason.CIRCUIT_OPEN, rejected.getReason());
+        assertEquals(OPEN_DURATION.toSeconds(), rejected.getRetryAfterSeconds());
+        assertFalse(subscribed.get());
+    }
+
+    @Test void halfOpenAllowsOnlyConfiguredProbesAndClosesWhenAllSucceed() {
+        UpstreamGuard guard = openGuard(4, 2);
+        advancePastOpenDuration();
+        assertEquals(UpstreamGuard.State.HALF_OPEN, guard.getState());
+
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        subscribe(guard, first);
+        subscribe(guard, second);
+
+        UpstreamUnavailableException rejected = assertThrows(UpstreamUnavailableException.class,
+                () -> succeed(guard));
+        assertEquals(UpstreamUnavailableException.Reason.CIRCUIT_OPEN, rejected.getReason());
+
+        first.tryEmitValue("ok");
+        assertEquals(UpstreamGuard.State.HALF_OPEN, guard.getState());
+        second.tryEmitValue("ok");
+        assertEquals(UpstreamGuard.State.CLOSED, guard.getState());
+    }
+
+    @Test void failedProbeReopensTheCircuit() {
+        UpstreamGuard guard = openGuard(4, 2);
+        advancePastOpenDuration();
+
+        fail(guard);
+
+        assertEquals(UpstreamGuard.State.OPEN, guard.getState());
+        assertThrows(UpstreamUnavailableException.class, () -> succeed(guard));
+    }
+
+    @Test void cancelledProbeReleasesItsSlot() {
+        UpstreamGuard guard = openGuard(4, 1);
+        advancePastOpenDuration();
+
+        Disposable probe = subscribe(guard, Sinks.one());
+        assertThrows(UpstreamUnavailableException.class, () -> succeed(guard));
+
+        probe.dispose();
+        succeed(guard);
+
+        assertEquals(UpstreamGuard.State.CLOSED, guard.getState());
+    }
+
+    @Test void probeRejectedByTheBulkheadReleasesItsSlot() {
+        UpstreamGuard guard = guard(2, 4, 4, 2);
+        // 회로가 열리기 전에 시작해 bulkhead 한 자리를 계속 잡고 있는 호출
+        Disposable startedBeforeOpen = subscribe(guard, Sinks.one());
+        for (int i = 0; i < 4; i++) {
+            fail(guard);
+        }
+        advancePastOpenDuration();
+
+        Disposable probe = subscribe(guard, Sinks.one());
+        UpstreamUnavailableException rejected = assertThrows(UpstreamUnavailableException.class,
+                () -> succeed(guard));
+        assertEquals(UpstreamUnavailableException.Reason.BULKHEAD_FULL, rejected.getReason());
+
+        // bulkhead 자리가 나면 두 번째 probe가 허용돼야 함 (거절된 probe가 자리를 잡고 있으면 CIRCUIT_OPEN)
+        startedBeforeOpen.dispose();
+        succeed(guard);
+        probe.dispose();
+        assertEquals(UpstreamGuard.State.HALF_OPEN, guard.getState());
+    }
+
+    @Test void resultsOfCallsStartedBeforeOpeningAreIgnored() {
+        UpstreamGuard guard = guard(2, 4, 4, 1);
+        Sinks.One<String> startedBeforeOpen = Sinks.one();
+        subscribe(guard, startedBeforeOpen);
+        for (int i = 0; i < 4; i++) {
+            fail(guard);
+        }
+        advancePastOpenDuration();
+        Sinks.One<String> probe = Sinks.one();
+        subscribe(guard, probe);
+
+        // 열리기 전에 시작한 호출의 실패는 HALF_OPEN을 다시 열지 않음
+        startedBeforeOpen.tryEmitError(serverError());
+        assertEquals(UpstreamGuard.State.HALF_OPEN, guard.getState());
+
+        probe.tryEmitValue("ok");
+        assertEquals(UpstreamGuard.State.CLOSED, guard.getState());
+    }
+
+    private UpstreamGuard guard(int maxConcurrentCalls, int slidingWindowSize, int minimumCalls, int halfOpenProbes) {
+        return new UpstreamGuard("chat", maxConcurrentCalls, 50, slidingWindowSize, minimumCalls, OPEN_DURATION,
+                halfOpenProbes, new SimpleMeterRegistry(), clock::get);
+    }
+
+    private UpstreamGuard openGuard(int minimumCalls, int halfOpenProbes) {
+        UpstreamGuard guard = guard(4, minimumCalls, minimumCalls, halfOpenProbes);
+        for (int i = 0; i < minimumCalls; i++) {
+            fail(guard);
+        }
+        assertEquals(UpstreamGuard.State.OPEN, guard.getState());
+        return guard;
+    }
+
+    private void advancePastOpenDuration() {
+        clock.addAndGet(OPEN_DURATION.toNanos() + 1);
+    }
+
+    private static String call(UpstreamGuard guard, Mono<String> upstreamCall) {
+        return guard.<String>protect().apply(upstreamCall).block();
+    }
+
+    private static void succeed(UpstreamGuard guard) {
+        assertEquals("ok", call(guard, Mono.just("ok")));
+    }
+
+    private static void fail(UpstreamGuard guard) {
+        assertThrows(WebClientResponseException.class, () -> call(guard, Mono.error(serverError())));
+    }
+
+    private static Disposable subscribe(UpstreamGuard guard, Sinks.One<String> pending) {
+        return guard.<String>protect().apply(pending.asMono()).subscribe(value -> { }, error -> { });
+    }
+
+    private static WebClientResponseException serverError() {
+        return WebClientResponseException.create(503, "Service Unavailable", null, null, null);
+    }
+}
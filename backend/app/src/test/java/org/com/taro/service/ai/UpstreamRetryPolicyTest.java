@@ -0,0 +1,142 @@
+package org.com.taro.service.ai;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamRetryPolicyTest {
+
+    @Test void classifiesHttpStatuses() {
+        assertEquals(UpstreamRetryPolicy.Failure.RATE_LIMITED, UpstreamRetryPolicy.classify(httpError(429, null)));
+        assertEquals(UpstreamRetryPolicy.Failure.TIMEOUT, UpstreamRetryPolicy.classify(httpError(408, null)));
+        assertEquals(UpstreamRetryPolicy.Failure.SERVER_ERROR, UpstreamRetryPolicy.classify(httpError(500, null)));
+        assertEquals(UpstreamRetryPolicy.Failure.SERVER_ERROR, UpstreamRetryPolicy.classify(httpError(503, null)));
+        assertEquals(UpstreamRetryPolicy.Failure.CLIENT_ERROR, UpstreamRetryPolicy.classify(httpError(400, null)));
+        assertEquals(UpstreamRetryPolicy.Failure.CLIENT_ERROR, UpstreamRetryPolicy.classify(httpError(401, null)));
+    }
+
+    @Test void classifiesTransportFailures() {
+        assertEquals(UpstreamRetryPolicy.Failure.TIMEOUT, UpstreamRetryPolicy.classify(new TimeoutException()));
+        assertEquals(UpstreamRetryPolicy.Failure.TIMEOUT, UpstreamRetryPolicy.classify(ReadTimeoutException.INSTANCE));
+        assertEquals(UpstreamRetryPolicy.Failure.CONNECTION, UpstreamRetryPolicy.classify(new ConnectException()));
+        assertEquals(UpstreamRetryPolicy.Failure.CONNECTION,
+                UpstreamRetryPolicy.classify(requestError(new ConnectException())));
+        // WebClient가 감싼 읽기 타임아웃은 연결 실패가 아니라 타임아웃
+        assertEquals(UpstreamRetryPolicy.Failure.TIMEOUT,
+                UpstreamRetryPolicy.classify(requestError(ReadTimeoutException.INSTANCE)));
+    }
+
+    @Test void parsingAndUnknownErrorsAreNotRetryable() {
+        assertEquals(UpstreamRetryPolicy.Failure.OTHER, UpstreamRetryPolicy.classify(new IllegalStateException()));
+        assertFalse(UpstreamRetryPolicy.Failure.OTHER.isRetryable());
+        assertFalse(UpstreamRetryPolicy.Failure.CLIENT_ERROR.isRetryable());
+        assertTrue(UpstreamRetryPolicy.Failure.RATE_LIMITED.isRetryable());
+    }
+
+    @Test void readsRetryAfterSeconds() {
+        assertEquals(Duration.ofSeconds(7), UpstreamRetryPolicy.retryAfter(httpError(429, " 7 ")));
+        assertEquals(Duration.ZERO, UpstreamRetryPolicy.retryAfter(httpError(429, "-3")));
+    }
+
+    @Test void readsRetryAfterHttpDate() {
+        String inTwoMinutes = DateTimeFormatter.RFC_1123_DATE_TIME
+                .format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(120));
+
+        Duration delay = UpstreamRetryPolicy.retryAfter(httpError(503, inTwoMinutes));
+
+        // 헤더 날짜는 초 단위라 최대 1초 + 테스트 실행 시간만큼 짧을 수 있음
+        assertNotNull(delay);
+        assertTrue(delay.compareTo(Duration.ofSeconds(110)) > 0, delay.toString());
+        assertTrue(delay.compareTo(Duration.ofSeconds(120)) <= 0, delay.toString());
+    }
+
+    @Test void pastRetryAfterDateMeansRetryNow() {
+        assertEquals(Duration.ZERO, UpstreamRetryPolicy.retryAfter(httpError(503, "Wed, 21 Oct 2015 07:28:00 GMT")));
+    }
+
+    @Test void missingOrInvalidRetryAfterIsIgnored() {
+        assertNull(UpstreamRetryPolicy.retryAfter(httpError(503, null)));
+        assertNull(UpstreamRetryPolicy.retryAfter(httpError(503, " ")));
+        assertNull(UpstreamRetryPolicy.retryAfter(httpError(503, "soon")));
+        assertNull(UpstreamRetryPolicy.retryAfter(new TimeoutException()));
+    }
+
+    @Test void budgetStartsFullAndIsSpentByRetries() {
+        UpstreamRetryPolicy.RetryBudget budget = new UpstreamRetryPolicy.RetryBudget(0.5, 1, new AtomicLong()::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(budget.tryWithdraw(), "retry " + i);
+        }
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test void callsDepositRatioTowardsRetries() {
+        UpstreamRetryPolicy.RetryBudget budget = drained(new AtomicLong());
+
+        budget.deposit();
+        assertFalse(budget.tryWithdraw());
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test void minimumRetriesPerSecondRefillWithTime() {
+        AtomicLong clock = new AtomicLong();
+        UpstreamRetryPolicy.RetryBudget budget = drained(clock);
+
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertFalse(budget.tryWithdraw());
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertTrue(budget.tryWithdraw());
+    }
+
+    @Test void balanceIsCapped() {
+        AtomicLong clock = new AtomicLong();
+        UpstreamRetryPolicy.RetryBudget budget = drained(clock);
+
+        // 오래 쉬어도 최대 10회 (minPerSecond * 10)까지만 쌓임
+        clock.addAndGet(Duration.ofHours(1).toNanos());
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+        for (int i = 0; i < 10; i++) {
+            assertTrue(budget.tryWithdraw(), "retry " + i);
+        }
+        assertFalse(budget.tryWithdraw());
+    }
+
+    private static UpstreamRetryPolicy.RetryBudget drained(AtomicLong clock) {
+        UpstreamRetryPolicy.RetryBudget budget = new UpstreamRetryPolicy.RetryBudget(0.5, 1, clock::get);
+        while (budget.tryWithdraw()) {
+            // 초기 잔액 소진
+        }
+        return budget;
+    }
+
+    private static WebClientResponseException httpError(int status, String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return WebClientResponseException.create(status, "status " + status, headers, null, null);
+    }
+
+    private static WebClientRequestException requestError(Throwable cause) {
+        return new WebClientRequestException(cause, HttpMethod.POST, URI.create("http://upstream/chat"),
+                new HttpHeaders());
+    }
+}
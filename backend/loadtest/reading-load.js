@@ -0,0 +1,72 @@
+// 리딩 처리 부하 테스트 (k6)
+//
+// 세션 생성 → 결과 제출 → 결과가 COMPLETED/FAILED가 될 때까지 폴링하는 사용자를 VUS명 동시에 실행.
+// 실제 LLM 비용 없이 스레드 모델만 비교하려면 서버를 ai.mock.enabled=true로 띄운다.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=200 loadtest/reading-load.js
+//
+// reading_duration: 제출부터 최종 상태까지 걸린 시간 (서버 측 대기열 + 처리 시간)
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Trend, Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '100', 10);
+const DURATION = __ENV.DURATION || '3m';
+const POLL_INTERVAL_SECONDS = parseFloat(__ENV.POLL_INTERVAL || '1');
+const READING_TIMEOUT_SECONDS = parseInt(__ENV.READING_TIMEOUT || '300', 10);
+
+const readingDuration = new Trend('reading_duration', true);
+const readingFailed = new Rate('reading_failed');
+
+export const options = {
+  scenarios: {
+    readings: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: DURATION,
+    },
+  },
+  thresholds: {
+    reading_failed: ['rate<0.01'],
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export default function () {
+  const created = http.post(`${BASE_URL}/sessions`, JSON.stringify({ nickname: `k6-${__VU}` }), JSON_HEADERS);
+  if (!check(created, { 'session created': (r) => r.status === 200 })) {
+    readingFailed.add(1);
+    return;
+  }
+  const sessionId = created.json('sessionId');
+
+  const submitted = http.post(`${BASE_URL}/sessions/${sessionId}/submit`, JSON.stringify({
+    categoryCode: __ENV.CATEGORY || 'LOVE',
+    topicCode: __ENV.TOPIC || 'REUNION',
+    questionText: '전 연인과 재회할 가능성이 있을까요?',
+    readerType: __ENV.READER || 'F',
+  }), JSON_HEADERS);
+  if (!check(submitted, { 'reading submitted': (r) => r.status === 200 })) {
+    readingFailed.add(1);
+    return;
+  }
+
+  const startedAt = Date.now();
+  while ((Date.now() - startedAt) / 1000 < READING_TIMEOUT_SECONDS) {
+    sleep(POLL_INTERVAL_SECONDS);
+    const result = http.get(`${BASE_URL}/sessions/${sessionId}/result`, { tags: { name: 'result' } });
+    if (result.status !== 200) {
+      continue; // 425: 아직 시작 전
+    }
+    const status = result.json('status');
+    if (status === 'COMPLETED' || status === 'FAILED') {
+      readingDuration.add(Date.now() - startedAt);
+      readingFailed.add(status === 'FAILED' ? 1 : 0);
+      return;
+    }
+  }
+  readingFailed.add(1);
+}